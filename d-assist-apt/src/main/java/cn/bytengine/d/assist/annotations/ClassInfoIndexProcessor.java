@@ -0,0 +1,476 @@
+package cn.bytengine.d.assist.annotations;
+
+import cn.bytengine.d.apt.util.AbstractAnnotationProcessor;
+import cn.bytengine.d.lang.CharSequenceTools;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 类信息索引处理器，为{@link ClassAccess}类生成ClassInfoIndex实现，
+ * 预先计算ClassInfo.of运行时扫描得到的方法和属性表，运行时按索引类名约定加载；
+ * 同时生成按下标switch直接调用成员的IndexedAccessor实现，运行时由IndexedAccessors按类名约定加载
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class ClassInfoIndexProcessor extends AbstractAnnotationProcessor {
+    private Types types;
+
+    /**
+     * 构造器
+     */
+    public ClassInfoIndexProcessor() {
+        super(ClassAccess.class);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        boolean isClaimed = false;
+        Set<? extends Element> annotatedClasses = roundEnv.getElementsAnnotatedWith(ClassAccess.class);
+        for (Element annotatedClass : annotatedClasses) {
+            if (annotatedClass.getKind() == ElementKind.CLASS) {
+                processElementClass((TypeElement) annotatedClass);
+            }
+        }
+        return isClaimed;
+    }
+
+    /**
+     * 处理生成指定类的ClassInfoIndex代码，方法表与Class#getDeclaredMethods及直接接口的默认方法一致，
+     * 属性表与ClassInfo按公开getter、setter方法推导的结果一致
+     *
+     * @param annotatedClass 使用ClassAccess类
+     * @return 生成ClassInfoIndex实现类名
+     */
+    protected String processElementClass(TypeElement annotatedClass) {
+        String className = annotatedClass.getQualifiedName().toString();
+        PackageElement packageElement = elements().getPackageOf(annotatedClass);
+        if (!isAccessible(annotatedClass, packageElement)) {
+            warn("not supported for no accessible class {}.", className);
+            return null;
+        }
+
+        List<ExecutableElement> methods = new ArrayList<>(ElementFilter.methodsIn(annotatedClass.getEnclosedElements()));
+        for (TypeMirror interfaceType : annotatedClass.getInterfaces()) {
+            TypeElement interfaceElement = (TypeElement) types.asElement(interfaceType);
+            for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(interfaceElement))) {
+                if (method.getModifiers().contains(Modifier.DEFAULT)) {
+                    methods.add(method);
+                }
+            }
+        }
+        for (ExecutableElement method : methods) {
+            if (!isAccessible((TypeElement) method.getEnclosingElement(), packageElement)
+                    || !isAccessible(method.getReturnType(), packageElement)) {
+                warn("not supported for class {}, method {} refers to no accessible type.", className, method.getSimpleName());
+                return null;
+            }
+            for (VariableElement parameter : method.getParameters()) {
+                if (!isAccessible(parameter.asType(), packageElement)) {
+                    warn("not supported for class {}, method {} refers to no accessible type.", className, method.getSimpleName());
+                    return null;
+                }
+            }
+        }
+
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+        String targetClassName = binaryName.replace('.', '_') + "ClassInfoIndex";
+        String targetFullClassName = packageName.isEmpty() ? targetClassName : packageName + "." + targetClassName;
+
+        StringBuilder source = new StringBuilder(2048);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import cn.bytengine.d.lang.reflect.ClassInfo;\n")
+                .append("import cn.bytengine.d.lang.reflect.ClassInfoIndex;\n")
+                .append("import cn.bytengine.d.lang.reflect.MethodInfo;\n")
+                .append("import cn.bytengine.d.lang.reflect.PropertyInfo;\n\n")
+                .append("public final class ").append(targetClassName).append(" implements ClassInfoIndex {\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getType() {\n")
+                .append("        return ").append(className).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public ClassInfo create() throws ReflectiveOperationException {\n")
+                .append("        ClassInfo info = ClassInfo.empty(").append(className).append(".class);\n");
+
+        Map<ExecutableElement, String> methodVariables = new IdentityHashMap<>();
+        for (int idx = 0; idx < methods.size(); idx++) {
+            ExecutableElement method = methods.get(idx);
+            String variable = "m" + idx;
+            methodVariables.put(method, variable);
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+            source.append("        MethodInfo ").append(variable).append(" = info.addMethod(")
+                    .append(declaringType.getQualifiedName()).append(".class.")
+                    .append(declaringType == annotatedClass ? "getDeclaredMethod" : "getMethod")
+                    .append("(\"").append(method.getSimpleName()).append('"');
+            for (VariableElement parameter : method.getParameters()) {
+                source.append(", ").append(classLiteral(parameter.asType()));
+            }
+            source.append("));\n");
+        }
+
+        Map<String, PropertyMethods> properties = determineBasicProperties(annotatedClass);
+        for (PropertyMethods property : properties.values()) {
+            if (property.writeMethod != null
+                    && !isAccessible(property.writeMethod.getParameters().get(0).asType(), packageElement)) {
+                warn("not supported for class {}, property {} refers to no accessible type.", className, property.name);
+                return null;
+            }
+        }
+        for (PropertyMethods property : properties.values()) {
+            String getter = accessorMethodInfo(property.readMethod, className, methodVariables);
+            String setter = accessorMethodInfo(property.writeMethod, className, methodVariables);
+            TypeMirror propertyType = propertyType(property);
+            if (!isAccessible(propertyType, packageElement)) {
+                propertyType = elements().getTypeElement(Object.class.getName()).asType();
+            }
+            source.append("        info.addProperty(\"").append(property.name).append("\", PropertyInfo.of(")
+                    .append(className).append(".class, \"").append(property.name).append("\", ")
+                    .append(classLiteral(propertyType)).append(", ")
+                    .append(getter).append(", ")
+                    .append(setter).append("));\n");
+        }
+        source.append("        return info;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject javaFileObject = filer().createSourceFile(targetFullClassName, annotatedClass);
+            try (Writer out = javaFileObject.openWriter()) {
+                out.write(source.toString());
+            }
+        } catch (IOException e) {
+            error("process ClassInfoIndex source occurred error. {}", e);
+            return null;
+        }
+        processIndexedAccessor(annotatedClass, packageElement, methods, properties);
+        return targetFullClassName;
+    }
+
+    /**
+     * 处理生成指定类的IndexedAccessor代码，属性按名称排序，方法按名称、参数类型排序，
+     * get、set、invoke按下标switch直接调用getter、setter和方法；私有方法不计入，
+     * 属性类型不可访问时不生成，运行时退化为基于直接调用器的访问器
+     *
+     * @param annotatedClass 使用ClassAccess类
+     * @param packageElement 类所在包
+     * @param methods        ClassInfoIndex方法表
+     * @param properties     属性名与读写方法映射
+     * @return 生成IndexedAccessor实现类名
+     */
+    private String processIndexedAccessor(TypeElement annotatedClass, PackageElement packageElement,
+                                          List<ExecutableElement> methods, Map<String, PropertyMethods> properties) {
+        String className = annotatedClass.getQualifiedName().toString();
+        for (PropertyMethods property : properties.values()) {
+            if (!isAccessible(propertyType(property), packageElement)) {
+                warn("not generate IndexedAccessor for class {}, property {} refers to no accessible type.", className, property.name);
+                return null;
+            }
+        }
+        List<ExecutableElement> accessibleMethods = new ArrayList<>(methods.size());
+        for (ExecutableElement method : methods) {
+            if (!method.getModifiers().contains(Modifier.PRIVATE)) {
+                accessibleMethods.add(method);
+            }
+        }
+        accessibleMethods.sort(Comparator.comparing((ExecutableElement method) -> method.getSimpleName().toString())
+                .thenComparing(this::parameterSign));
+        List<PropertyMethods> propertyList = new ArrayList<>(properties.values());
+
+        String packageName = packageElement.getQualifiedName().toString();
+        String binaryName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+        String targetClassName = binaryName.replace('.', '_') + "IndexedAccessor";
+        String targetFullClassName = packageName.isEmpty() ? targetClassName : packageName + "." + targetClassName;
+        String instanceReceiver = "((" + className + ") me)";
+
+        StringBuilder source = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import cn.bytengine.d.assist.AbstractIndexedAccessor;\n\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(targetClassName).append(" extends AbstractIndexedAccessor {\n")
+                .append("    public ").append(targetClassName).append("() {\n")
+                .append("        super(").append(className).append(".class,\n");
+
+        source.append("                new String[]{");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            source.append(idx == 0 ? "" : ", ").append('"').append(propertyList.get(idx).name).append('"');
+        }
+        source.append("},\n                new Class<?>[]{");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            source.append(idx == 0 ? "" : ", ").append(classLiteral(propertyType(propertyList.get(idx))));
+        }
+        source.append("},\n                new boolean[]{");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            source.append(idx == 0 ? "" : ", ").append(propertyList.get(idx).readMethod != null);
+        }
+        source.append("},\n                new boolean[]{");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            source.append(idx == 0 ? "" : ", ").append(propertyList.get(idx).writeMethod != null);
+        }
+        source.append("},\n                new String[]{");
+        for (int idx = 0; idx < accessibleMethods.size(); idx++) {
+            source.append(idx == 0 ? "" : ", ").append('"').append(accessibleMethods.get(idx).getSimpleName()).append('"');
+        }
+        source.append("},\n                new Class<?>[][]{");
+        for (int idx = 0; idx < accessibleMethods.size(); idx++) {
+            source.append(idx == 0 ? "{" : ", {");
+            List<? extends VariableElement> parameters = accessibleMethods.get(idx).getParameters();
+            for (int paramIdx = 0; paramIdx < parameters.size(); paramIdx++) {
+                source.append(paramIdx == 0 ? "" : ", ").append(classLiteral(parameters.get(paramIdx).asType()));
+            }
+            source.append('}');
+        }
+        source.append("});\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    protected Object doGet(Object me, int propertyIndex) throws Throwable {\n")
+                .append("        switch (propertyIndex) {\n");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            ExecutableElement getter = propertyList.get(idx).readMethod;
+            if (getter != null) {
+                source.append("            case ").append(idx).append(":\n")
+                        .append("                return ").append(receiver(getter, className, instanceReceiver))
+                        .append('.').append(getter.getSimpleName()).append("();\n");
+            }
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"property index: \" + propertyIndex);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    protected void doSet(Object me, int propertyIndex, Object value) throws Throwable {\n")
+                .append("        switch (propertyIndex) {\n");
+        for (int idx = 0; idx < propertyList.size(); idx++) {
+            ExecutableElement setter = propertyList.get(idx).writeMethod;
+            if (setter != null) {
+                source.append("            case ").append(idx).append(":\n")
+                        .append("                ").append(receiver(setter, className, instanceReceiver))
+                        .append('.').append(setter.getSimpleName()).append("((")
+                        .append(types.erasure(setter.getParameters().get(0).asType())).append(") value);\n")
+                        .append("                return;\n");
+            }
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"property index: \" + propertyIndex);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+
+        source.append("    @Override\n")
+                .append("    protected Object doInvoke(Object me, int methodIndex, Object[] args) throws Throwable {\n")
+                .append("        switch (methodIndex) {\n");
+        for (int idx = 0; idx < accessibleMethods.size(); idx++) {
+            ExecutableElement method = accessibleMethods.get(idx);
+            boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+            source.append("            case ").append(idx).append(":\n")
+                    .append("                ").append(isVoid ? "" : "return ")
+                    .append(receiver(method, className, instanceReceiver)).append('.').append(method.getSimpleName()).append('(');
+            List<? extends VariableElement> parameters = method.getParameters();
+            for (int paramIdx = 0; paramIdx < parameters.size(); paramIdx++) {
+                source.append(paramIdx == 0 ? "" : ", ").append('(').append(types.erasure(parameters.get(paramIdx).asType()))
+                        .append(") args[").append(paramIdx).append(']');
+            }
+            source.append(");\n");
+            if (isVoid) {
+                source.append("                return null;\n");
+            }
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(\"method index: \" + methodIndex);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject javaFileObject = filer().createSourceFile(targetFullClassName, annotatedClass);
+            try (Writer out = javaFileObject.openWriter()) {
+                out.write(source.toString());
+            }
+        } catch (IOException e) {
+            error("process IndexedAccessor source occurred error. {}", e);
+            return null;
+        }
+        return targetFullClassName;
+    }
+
+    /**
+     * 与ClassInfo按公开方法推导属性的规则一致
+     *
+     * @param annotatedClass 使用ClassAccess类
+     * @return 属性名与读写方法映射
+     */
+    private Map<String, PropertyMethods> determineBasicProperties(TypeElement annotatedClass) {
+        Map<String, PropertyMethods> propertyMap = new TreeMap<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(annotatedClass))) {
+            if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+            boolean setter;
+            int nameIndex;
+            if (methodName.startsWith("set") && parameterCount == 1) {
+                setter = true;
+                nameIndex = 3;
+            } else if (methodName.startsWith("get") && parameterCount == 0 && returnKind != TypeKind.VOID) {
+                setter = false;
+                nameIndex = 3;
+            } else if (methodName.startsWith("is") && parameterCount == 0 && returnKind == TypeKind.BOOLEAN) {
+                setter = false;
+                nameIndex = 2;
+            } else {
+                continue;
+            }
+            String propertyName = CharSequenceTools.lowerFirst(methodName.substring(nameIndex));
+            if (propertyName.isEmpty()) {
+                continue;
+            }
+            PropertyMethods property = propertyMap.get(propertyName);
+            if (property == null) {
+                property = new PropertyMethods(propertyName);
+                propertyMap.put(propertyName, property);
+                if (setter) {
+                    property.writeMethod = method;
+                } else {
+                    property.readMethod = method;
+                }
+            } else if (setter) {
+                property.writeMethod = method;
+            } else if (property.readMethod == null
+                    || (types.isSameType(property.readMethod.getReturnType(), method.getReturnType()) && methodName.startsWith("is"))) {
+                property.readMethod = method;
+            }
+        }
+        return propertyMap;
+    }
+
+    /**
+     * 属性读写方法的MethodInfo表达式，方法表中不存在的继承方法按公开方法单独创建
+     *
+     * @param method          读写方法
+     * @param className       使用ClassAccess类名
+     * @param methodVariables 方法表变量名
+     * @return MethodInfo表达式
+     */
+    private String accessorMethodInfo(ExecutableElement method, String className,
+                                      Map<ExecutableElement, String> methodVariables) {
+        if (method == null) {
+            return "(MethodInfo) null";
+        }
+        String variable = methodVariables.get(method);
+        if (variable != null) {
+            return variable;
+        }
+        StringBuilder expression = new StringBuilder("MethodInfo.of(")
+                .append(className).append(".class, ")
+                .append(className).append(".class.getMethod(\"").append(method.getSimpleName()).append('"');
+        for (VariableElement parameter : method.getParameters()) {
+            expression.append(", ").append(classLiteral(parameter.asType()));
+        }
+        return expression.append("))").toString();
+    }
+
+    private TypeMirror propertyType(PropertyMethods property) {
+        return property.readMethod != null
+                ? property.readMethod.getReturnType()
+                : property.writeMethod.getParameters().get(0).asType();
+    }
+
+    private String receiver(ExecutableElement method, String className, String instanceReceiver) {
+        return method.getModifiers().contains(Modifier.STATIC) ? className : instanceReceiver;
+    }
+
+    private String parameterSign(ExecutableElement method) {
+        StringBuilder sign = new StringBuilder();
+        for (VariableElement parameter : method.getParameters()) {
+            sign.append(types.erasure(parameter.asType())).append(',');
+        }
+        return sign.toString();
+    }
+
+    private String classLiteral(TypeMirror type) {
+        return types.erasure(type).toString() + ".class";
+    }
+
+    private boolean isAccessible(TypeMirror type, PackageElement packageElement) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), packageElement);
+        }
+        if (type.getKind() == TypeKind.TYPEVAR) {
+            return isAccessible(types.erasure(type), packageElement);
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            return isAccessible((TypeElement) ((DeclaredType) type).asElement(), packageElement);
+        }
+        return true;
+    }
+
+    private boolean isAccessible(TypeElement typeElement, PackageElement packageElement) {
+        Element current = typeElement;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements().getPackageOf(current).equals(packageElement)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.RELEASE_8;
+    }
+
+    @Override
+    protected void internalInit(ProcessingEnvironment processingEnv) {
+        types = processingEnv.getTypeUtils();
+    }
+
+    /**
+     * 属性读写方法
+     */
+    private static final class PropertyMethods {
+        private final String name;
+        private ExecutableElement readMethod;
+        private ExecutableElement writeMethod;
+
+        PropertyMethods(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package cn.bytengine.d.events.annotations;
+
+import cn.bytengine.d.apt.util.AbstractAnnotationProcessor;
+import cn.bytengine.d.lang.CharSequenceTools;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 事件处理方法处理器，为包含{@link EventHandler}方法的类生成EventHandlerIndex实现，
+ * 并生成META-INF/services/cn.bytengine.d.events.EventHandlerIndex服务描述
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class EventHandlerProcessor extends AbstractAnnotationProcessor {
+    private static final String SERVICE_FILE = "META-INF/services/cn.bytengine.d.events.EventHandlerIndex";
+    private static final int MAX_FAST_ARITY = 4;
+
+    private Types types;
+    /**
+     * 各轮次生成的EventHandlerIndex类名，处理结束时统一写入服务描述
+     */
+    private final Set<String> generatedIndexes = new LinkedHashSet<>();
+
+    /**
+     * 构造器
+     */
+    public EventHandlerProcessor() {
+        super(EventHandler.class);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        boolean isClaimed = false;
+        Set<? extends Element> annotatedMethods = roundEnv.getElementsAnnotatedWith(EventHandler.class);
+        if (!annotatedMethods.isEmpty()) {
+            Map<TypeElement, List<ExecutableElement>> classMethods = new LinkedHashMap<>();
+            for (ExecutableElement method : ElementFilter.methodsIn(annotatedMethods)) {
+                Element enclosing = method.getEnclosingElement();
+                if (enclosing.getKind() != ElementKind.CLASS) {
+                    warn("not supported for {}.{}, it is not declared in class.", enclosing.getSimpleName(), method.getSimpleName());
+                    continue;
+                }
+                classMethods.computeIfAbsent((TypeElement) enclosing, key -> new ArrayList<>()).add(method);
+            }
+            String generatedClassName;
+            for (Map.Entry<TypeElement, List<ExecutableElement>> entry : classMethods.entrySet()) {
+                generatedClassName = processElementClass(entry.getKey(), entry.getValue());
+                if (CharSequenceTools.isNotBlank(generatedClassName)) {
+                    generatedIndexes.add(generatedClassName);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedIndexes.isEmpty()) {
+            processServiceMetaInf(new ArrayList<>(generatedIndexes));
+        }
+        return isClaimed;
+    }
+
+    /**
+     * 根据生成EventHandlerIndex类信息，生成META-INF/services/cn.bytengine.d.events.EventHandlerIndex信息，
+     * 在最后一轮处理时调用一次，合并输出目录中已有的服务描述（如增量编译的上次结果）
+     *
+     * @param generatedIndexList EventHandlerIndex类名集合
+     */
+    protected void processServiceMetaInf(List<String> generatedIndexList) {
+        Set<String> serviceClasses = new LinkedHashSet<>(readServiceMetaInf());
+        serviceClasses.addAll(generatedIndexList);
+        try {
+            FileObject file = filer().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String serviceClass : serviceClasses) {
+                    out.write(serviceClass);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            error("create cn.bytengine.d.events.EventHandlerIndex service file occurred error. \n{}", e);
+        }
+    }
+
+    private List<String> readServiceMetaInf() {
+        List<String> serviceClasses = new ArrayList<>();
+        try {
+            FileObject file = filer().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(file.openReader(true))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int commentIndex = line.indexOf('#');
+                    String serviceClass = (commentIndex < 0 ? line : line.substring(0, commentIndex)).trim();
+                    if (!serviceClass.isEmpty()) {
+                        serviceClasses.add(serviceClass);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 服务描述不存在，无需合并
+        }
+        return serviceClasses;
+    }
+
+    /**
+     * 处理生成指定类的EventHandlerIndex代码
+     *
+     * @param annotatedClass 包含EventHandler方法的类
+     * @param methods        EventHandler方法集合
+     * @return 生成EventHandlerIndex实现类名
+     */
+    protected String processElementClass(TypeElement annotatedClass, List<ExecutableElement> methods) {
+        String className = annotatedClass.getQualifiedName().toString();
+        if (!isAccessible(annotatedClass)) {
+            warn("not supported for no public class {}.", className);
+            return null;
+        }
+        List<ExecutableElement> handlerMethods = new ArrayList<>(methods.size());
+        boolean hasInstanceMethod = false;
+        for (ExecutableElement method : methods) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT)) {
+                warn("not supported for abstract or no public method {}.{}.", className, method.getSimpleName());
+                continue;
+            }
+            if (!modifiers.contains(Modifier.STATIC)) {
+                if (annotatedClass.getModifiers().contains(Modifier.ABSTRACT)) {
+                    warn("not supported for instance method {}.{} of abstract class.", className, method.getSimpleName());
+                    continue;
+                }
+                hasInstanceMethod = true;
+            }
+            handlerMethods.add(method);
+        }
+        if (handlerMethods.isEmpty()) {
+            return null;
+        }
+        String packageName = elements().getPackageOf(annotatedClass).getQualifiedName().toString();
+        String binaryName = packageName.isEmpty() ? className : className.substring(packageName.length() + 1);
+        String targetClassName = binaryName.replace('.', '_') + "EventHandlerIndex";
+        String targetFullClassName = packageName.isEmpty() ? targetClassName : packageName + "." + targetClassName;
+
+        StringBuilder source = new StringBuilder(1024);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import cn.bytengine.d.events.EventHandlerIndex;\n")
+                .append("import cn.bytengine.d.events.internal.AbstractInvokerEventBus;\n")
+                .append("import cn.bytengine.d.fn.invoker.Invoker;\n\n")
+                .append("import java.util.function.Function;\n\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(targetClassName).append(" implements EventHandlerIndex {\n")
+                .append("    @Override\n")
+                .append("    public void register(AbstractInvokerEventBus eventBus, Function<Class<?>, Object> instanceProvider) {\n");
+        if (hasInstanceMethod) {
+            if (hasPublicNoArgConstructor(annotatedClass)) {
+                source.append("        final ").append(className).append(" target = instanceProvider == null ? new ")
+                        .append(className).append("() : (").append(className).append(") instanceProvider.apply(")
+                        .append(className).append(".class);\n");
+            } else {
+                source.append("        if (instanceProvider == null) {\n")
+                        .append("            throw new IllegalStateException(\"instanceProvider is required for ")
+                        .append(className).append("\");\n")
+                        .append("        }\n")
+                        .append("        final ").append(className).append(" target = (").append(className)
+                        .append(") instanceProvider.apply(").append(className).append(".class);\n");
+            }
+        }
+        for (ExecutableElement method : handlerMethods) {
+            appendRegister(source, className, method);
+        }
+        source.append("    }\n")
+                .append("}\n");
+
+        try {
+            JavaFileObject javaFileObject = filer().createSourceFile(targetFullClassName, annotatedClass);
+            try (Writer out = javaFileObject.openWriter()) {
+                out.write(source.toString());
+            }
+        } catch (IOException e) {
+            error("process EventHandlerIndex source occurred error. {}", e);
+            return null;
+        }
+        return targetFullClassName;
+    }
+
+    /**
+     * 生成单个事件处理方法注册代码，调用器直接调用目标方法，并为不超过4个参数的方法覆盖对应invokeN快速路径
+     *
+     * @param source    代码
+     * @param className 类全名
+     * @param method    事件处理方法
+     */
+    private void appendRegister(StringBuilder source, String className, ExecutableElement method) {
+        EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+        String eventName = CharSequenceTools.isNotBlank(eventHandler.name())
+                ? eventHandler.name()
+                : method.getSimpleName().toString();
+        String receiver = method.getModifiers().contains(Modifier.STATIC) ? className : "target";
+        boolean isVoid = method.getReturnType().getKind() == TypeKind.VOID;
+        List<? extends VariableElement> parameters = method.getParameters();
+        String[] castTypes = new String[parameters.size()];
+        for (int idx = 0; idx < castTypes.length; idx++) {
+            castTypes[idx] = castType(parameters.get(idx).asType());
+        }
+
+        source.append("        eventBus.register(\"").append(escape(eventName)).append("\", new Invoker() {\n")
+                .append("            @Override\n")
+                .append("            public Object invoke(Object[] args) throws Throwable {\n");
+        String[] argExpressions = new String[castTypes.length];
+        for (int idx = 0; idx < castTypes.length; idx++) {
+            argExpressions[idx] = "args[" + idx + "]";
+        }
+        appendCall(source, receiver, method, castTypes, argExpressions, isVoid);
+        source.append("            }\n");
+        if (castTypes.length <= MAX_FAST_ARITY) {
+            source.append("\n")
+                    .append("            @Override\n")
+                    .append("            public Object invoke").append(castTypes.length).append('(');
+            for (int idx = 0; idx < castTypes.length; idx++) {
+                argExpressions[idx] = "arg" + (idx + 1);
+                source.append(idx == 0 ? "" : ", ").append("Object ").append(argExpressions[idx]);
+            }
+            source.append(") throws Throwable {\n");
+            appendCall(source, receiver, method, castTypes, argExpressions, isVoid);
+            source.append("            }\n");
+        }
+        source.append("        });\n");
+    }
+
+    private void appendCall(StringBuilder source, String receiver, ExecutableElement method,
+                            String[] castTypes, String[] argExpressions, boolean isVoid) {
+        source.append("                ").append(isVoid ? "" : "return ")
+                .append(receiver).append('.').append(method.getSimpleName()).append('(');
+        for (int idx = 0; idx < castTypes.length; idx++) {
+            source.append(idx == 0 ? "" : ", ").append('(').append(castTypes[idx]).append(") ").append(argExpressions[idx]);
+        }
+        source.append(");\n");
+        if (isVoid) {
+            source.append("                return null;\n");
+        }
+    }
+
+    private String castType(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return types.erasure(type).toString();
+    }
+
+    private boolean isAccessible(TypeElement typeElement) {
+        Element current = typeElement;
+        while (current.getKind().isClass() || current.getKind().isInterface()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            Element enclosing = current.getEnclosingElement();
+            if (!modifiers.contains(Modifier.PUBLIC)
+                    || (enclosing.getKind().isClass() && !modifiers.contains(Modifier.STATIC))) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement typeElement) {
+        if (typeElement.getEnclosingElement().getKind().isClass() && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.RELEASE_8;
+    }
+
+    @Override
+    protected void internalInit(ProcessingEnvironment processingEnv) {
+        types = processingEnv.getTypeUtils();
+    }
+}
@@ -48,6 +48,14 @@ public class App {
         long accessorTime = timer.intervalMs("accessor");
         System.out.println("-------------------------accessor----------------------------");
 
+        int usernameIndex = classAccessor.propertyIndex("username");
+        timer.start("indexed");
+        for (int i = 0; i < times; i++) {
+            classAccessor.set(one, usernameIndex, "sunkaihan");
+        }
+        long indexedTime = timer.intervalMs("indexed");
+        System.out.println("-------------------------indexed----------------------------");
+
         timer.start("call");
         for (int i = 0; i < times; i++) {
 //            one.handleEvent("Kaihan Sun", 38);
@@ -59,6 +67,7 @@ public class App {
         System.out.println(CharSequenceTools.format("eventbus execute {} times took {} ms", times, eventBusTime));
         System.out.println(CharSequenceTools.format("invoker execute {} times took {} ms", times, invokerTime));
         System.out.println(CharSequenceTools.format("accessor execute {} times took {} ms", times, accessorTime));
+        System.out.println(CharSequenceTools.format("indexed accessor execute {} times took {} ms", times, indexedTime));
         System.out.println(CharSequenceTools.format("call execute {} times took {} ms", times, callTime));
 
         timer.clear();
@@ -1,6 +1,7 @@
 package cn.bytengine.d.jakarta;
 
 import cn.bytengine.d.ctx.Ctx;
+import cn.bytengine.d.ctx.CtxKey;
 import cn.bytengine.d.ctx.Ctxs;
 import cn.bytengine.d.lang.AssertTools;
 import cn.bytengine.d.utils.TraceCtx;
@@ -13,6 +14,7 @@ import cn.bytengine.d.utils.TraceCtx;
  */
 public class WebCtx extends TraceCtx {
     private static final String WEB_CTX_CONFIG_KEY_PREFIX = "cn.bytengine.d.WebCtx.config";
+    private static final CtxKey<WebTraceConfig> WEB_CTX_CONFIG_KEY = CtxKey.of(WEB_CTX_CONFIG_KEY_PREFIX, WebTraceConfig.class);
     /**
      * HttpServletRequest Attribute存储WebCtx上下文的Key
      */
@@ -33,7 +35,7 @@ public class WebCtx extends TraceCtx {
 
     @Override
     public WebTraceConfig getTraceConfig() {
-        return this.getByTypeWithDefault(WEB_CTX_CONFIG_KEY_PREFIX, WebTraceConfig.class, null);
+        return get(WEB_CTX_CONFIG_KEY);
     }
 
     /**
@@ -44,6 +46,6 @@ public class WebCtx extends TraceCtx {
      */
     public static void setWebTraceConfig(WebTraceConfig webTraceConfig, Ctx ctx) {
         AssertTools.notNull(webTraceConfig, "the WebTraceConfig instance is null");
-        ctx.set(WEB_CTX_CONFIG_KEY_PREFIX, webTraceConfig);
+        ctx.set(WEB_CTX_CONFIG_KEY, webTraceConfig);
     }
 }
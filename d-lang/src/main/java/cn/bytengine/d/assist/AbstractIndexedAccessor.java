@@ -0,0 +1,206 @@
+package cn.bytengine.d.assist;
+
+import cn.bytengine.d.fn.invoker.InvocationException;
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.fn.invoker.ReflectionOperationException;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.Arrays;
+
+/**
+ * 编译期生成下标访问器的基类
+ * <p>
+ * d-assist-apt为每个{@link cn.bytengine.d.assist.annotations.ClassAccess}类型生成子类，
+ * 子类传入按名称排序的属性、方法元信息，并以按下标switch的方式直接调用getter、setter和方法，
+ * 不经过反射或调用器数组。元信息查询、可读写校验、参数个数校验和异常包装由本类完成。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see IndexedAccessors#get(Class)
+ */
+public abstract class AbstractIndexedAccessor implements IndexedAccessor {
+    private final Class<?> type;
+
+    private final String[] propertyNames;
+    private final Class<?>[] propertyTypes;
+    private final boolean[] readable;
+    private final boolean[] writable;
+
+    private final String[] methodNames;
+    private final Class<?>[][] parameterTypes;
+
+    /**
+     * 构造器
+     *
+     * @param type           访问的类型
+     * @param propertyNames  按名称排序的属性名
+     * @param propertyTypes  属性类型
+     * @param readable       属性是否可读
+     * @param writable       属性是否可写
+     * @param methodNames    按名称、参数类型排序的方法名
+     * @param parameterTypes 方法参数类型
+     */
+    protected AbstractIndexedAccessor(Class<?> type,
+                                      String[] propertyNames, Class<?>[] propertyTypes,
+                                      boolean[] readable, boolean[] writable,
+                                      String[] methodNames, Class<?>[][] parameterTypes) {
+        AssertTools.notNull(type, "type must not be null");
+        AssertTools.isTrue(propertyNames.length == propertyTypes.length
+                        && propertyNames.length == readable.length
+                        && propertyNames.length == writable.length,
+                "property metadata length mismatch");
+        AssertTools.isTrue(methodNames.length == parameterTypes.length, "method metadata length mismatch");
+        this.type = type;
+        this.propertyNames = propertyNames;
+        this.propertyTypes = propertyTypes;
+        this.readable = readable;
+        this.writable = writable;
+        this.methodNames = methodNames;
+        this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public int getPropertyCount() {
+        return propertyNames.length;
+    }
+
+    @Override
+    public int getMethodCount() {
+        return methodNames.length;
+    }
+
+    @Override
+    public int propertyIndex(String propertyName) {
+        int index = Arrays.binarySearch(propertyNames, propertyName);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public int methodIndex(String methodName) {
+        int index = Arrays.binarySearch(methodNames, methodName);
+        if (index < 0) {
+            return -1;
+        }
+        while (index > 0 && methodNames[index - 1].equals(methodName)) {
+            index--;
+        }
+        return index;
+    }
+
+    @Override
+    public int methodIndex(String methodName, Class<?>... parameterTypes) {
+        int index = methodIndex(methodName);
+        if (index < 0) {
+            return -1;
+        }
+        for (; index < methodNames.length && methodNames[index].equals(methodName); index++) {
+            if (Arrays.equals(this.parameterTypes[index], parameterTypes)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String propertyName(int propertyIndex) {
+        return propertyNames[propertyIndex];
+    }
+
+    @Override
+    public Class<?> propertyType(int propertyIndex) {
+        return propertyTypes[propertyIndex];
+    }
+
+    @Override
+    public boolean isReadable(int propertyIndex) {
+        return readable[propertyIndex];
+    }
+
+    @Override
+    public boolean isWritable(int propertyIndex) {
+        return writable[propertyIndex];
+    }
+
+    @Override
+    public String methodName(int methodIndex) {
+        return methodNames[methodIndex];
+    }
+
+    @Override
+    public final Object get(Object me, int propertyIndex) {
+        if (!readable[propertyIndex]) {
+            throw new ReflectionOperationException("The property is not readable: " + propertyNames[propertyIndex]);
+        }
+        try {
+            return doGet(me, propertyIndex);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    @Override
+    public final void set(Object me, int propertyIndex, Object value) {
+        if (!writable[propertyIndex]) {
+            throw new ReflectionOperationException("The property is not writable: " + propertyNames[propertyIndex]);
+        }
+        try {
+            doSet(me, propertyIndex, value);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    @Override
+    public final Object invoke(Object me, int methodIndex, Object... args) {
+        if (args == null) {
+            args = Invoker.EMPTY_ARGS;
+        }
+        int parameterCount = parameterTypes[methodIndex].length;
+        if (args.length != parameterCount) {
+            throw new ReflectionOperationException("The method " + methodNames[methodIndex] + " requires "
+                    + parameterCount + " arguments, but " + args.length + " given");
+        }
+        try {
+            return doInvoke(me, methodIndex, args);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    /**
+     * 读取属性值，下标已校验可读
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @return 属性值
+     * @throws Throwable getter抛出的异常
+     */
+    protected abstract Object doGet(Object me, int propertyIndex) throws Throwable;
+
+    /**
+     * 设置属性值，下标已校验可写
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @param value         设置值
+     * @throws Throwable setter抛出的异常
+     */
+    protected abstract void doSet(Object me, int propertyIndex, Object value) throws Throwable;
+
+    /**
+     * 调用方法，参数个数已校验
+     *
+     * @param me          对象实例
+     * @param methodIndex 方法下标
+     * @param args        调用方法参数列表
+     * @return 方法返回值，void方法返回null
+     * @throws Throwable 方法抛出的异常
+     */
+    protected abstract Object doInvoke(Object me, int methodIndex, Object[] args) throws Throwable;
+}
@@ -0,0 +1,315 @@
+package cn.bytengine.d.assist;
+
+import cn.bytengine.d.lang.AssertTools;
+import cn.bytengine.d.lang.ConversionService;
+import cn.bytengine.d.lang.Converter;
+import cn.bytengine.d.lang.NamingCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.IntStream;
+
+/**
+ * 对象属性复制器
+ * <p>
+ * 每对（源类型，目标类型）首次复制时编译复制计划并缓存：按属性名匹配源类型可读属性和目标类型可写属性（含继承的公开属性），
+ * 名称不一致时可按{@link NamingCase#toUnderlineCase(CharSequence)}归一后匹配（如userName与user_name），
+ * 并通过{@link ConversionService}预先确定类型转换器，无法转换的属性在编译时排除。
+ * 执行时按计划中的属性下标数组依次通过{@link IndexedAccessor}读写，不再按名称查找。
+ * </p>
+ * <p>
+ * 复制器实例线程安全，应作为单例复用，复制计划随复制器实例缓存。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class BeanMapper {
+    private static final BeanMapper DEFAULT = builder().build();
+    private final ConversionService conversionService;
+    private final boolean ignoreNull;
+    private final boolean namingCaseMatch;
+    private final int parallelThreshold;
+    private final ClassValue<ConcurrentMap<Class<?>, CopyPlan>> copyPlanCache = new ClassValue<ConcurrentMap<Class<?>, CopyPlan>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, CopyPlan> computeValue(Class<?> sourceType) {
+            return new ConcurrentHashMap<>(4);
+        }
+    };
+
+    private BeanMapper(Builder builder) {
+        this.conversionService = builder.conversionService;
+        this.ignoreNull = builder.ignoreNull;
+        this.namingCaseMatch = builder.namingCaseMatch;
+        this.parallelThreshold = builder.parallelThreshold;
+    }
+
+    /**
+     * 获取默认复制器，复制null值，按命名风格归一匹配属性
+     *
+     * @return 默认复制器
+     */
+    public static BeanMapper getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 复制源对象属性到目标对象
+     *
+     * @param source 源对象
+     * @param target 目标对象
+     * @param <T>    目标对象类型
+     * @return 目标对象
+     */
+    public <T> T copy(Object source, T target) {
+        AssertTools.notNull(source, "source must not be null");
+        AssertTools.notNull(target, "target must not be null");
+        getCopyPlan(source.getClass(), target.getClass()).execute(source, target);
+        return target;
+    }
+
+    /**
+     * 创建目标类型对象并复制源对象属性，目标类型需提供公开无参构造器
+     *
+     * @param source     源对象
+     * @param targetType 目标类型
+     * @param <T>        目标对象类型
+     * @return 目标对象，源对象为null时返回null
+     */
+    public <T> T map(Object source, Class<T> targetType) {
+        AssertTools.notNull(targetType, "targetType must not be null");
+        if (source == null) {
+            return null;
+        }
+        CopyPlan copyPlan = getCopyPlan(source.getClass(), targetType);
+        T target = targetType.cast(PropertyLayout.of(targetType).newInstance());
+        copyPlan.execute(source, target);
+        return target;
+    }
+
+    /**
+     * 批量创建目标类型对象并复制源对象属性，源列表长度达到并行阈值时并行复制，结果顺序与源列表一致
+     *
+     * @param sources    源对象列表，null元素对应结果为null
+     * @param targetType 目标类型
+     * @param <T>        目标对象类型
+     * @return 目标对象列表
+     */
+    public <T> List<T> copyAll(List<?> sources, Class<T> targetType) {
+        AssertTools.notNull(sources, "sources must not be null");
+        AssertTools.notNull(targetType, "targetType must not be null");
+        Object[] sourceArray = sources.toArray();
+        Object[] targets = new Object[sourceArray.length];
+        IntStream indexes = IntStream.range(0, sourceArray.length);
+        if (sourceArray.length >= parallelThreshold) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(idx -> targets[idx] = map(sourceArray[idx], targetType));
+        List<T> result = new ArrayList<>(targets.length);
+        for (Object target : targets) {
+            result.add(targetType.cast(target));
+        }
+        return result;
+    }
+
+    /**
+     * 获取复制计划中匹配的属性名对，用于排查属性匹配结果
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 源属性名与目标属性名映射
+     */
+    public Map<String, String> matchedProperties(Class<?> sourceType, Class<?> targetType) {
+        CopyPlan copyPlan = getCopyPlan(sourceType, targetType);
+        Map<String, String> matched = new HashMap<>(copyPlan.sourceIndexes.length);
+        for (int idx = 0; idx < copyPlan.sourceIndexes.length; idx++) {
+            matched.put(copyPlan.sourceAccessor.propertyName(copyPlan.sourceIndexes[idx]),
+                    copyPlan.targetAccessor.propertyName(copyPlan.targetIndexes[idx]));
+        }
+        return matched;
+    }
+
+    private CopyPlan getCopyPlan(Class<?> sourceType, Class<?> targetType) {
+        ConcurrentMap<Class<?>, CopyPlan> copyPlans = copyPlanCache.get(sourceType);
+        CopyPlan copyPlan = copyPlans.get(targetType);
+        if (copyPlan == null) {
+            copyPlan = copyPlans.computeIfAbsent(targetType, type -> compile(sourceType, type));
+        }
+        return copyPlan;
+    }
+
+    private CopyPlan compile(Class<?> sourceType, Class<?> targetType) {
+        IndexedAccessor sourceAccessor = IndexedAccessors.get(sourceType);
+        IndexedAccessor targetAccessor = IndexedAccessors.get(targetType);
+
+        Map<String, Integer> normalizedTargets = new HashMap<>();
+        if (namingCaseMatch) {
+            for (int idx = 0; idx < targetAccessor.getPropertyCount(); idx++) {
+                if (targetAccessor.isWritable(idx)) {
+                    normalizedTargets.putIfAbsent(normalize(targetAccessor.propertyName(idx)), idx);
+                }
+            }
+        }
+
+        int count = 0;
+        int[] sourceIndexes = new int[sourceAccessor.getPropertyCount()];
+        int[] targetIndexes = new int[sourceIndexes.length];
+        @SuppressWarnings("unchecked")
+        Converter<Object, Object>[] converters = new Converter[sourceIndexes.length];
+        boolean[] primitiveTargets = new boolean[sourceIndexes.length];
+        for (int sourceIndex = 0; sourceIndex < sourceAccessor.getPropertyCount(); sourceIndex++) {
+            if (!sourceAccessor.isReadable(sourceIndex)) {
+                continue;
+            }
+            String propertyName = sourceAccessor.propertyName(sourceIndex);
+            int targetIndex = targetAccessor.propertyIndex(propertyName);
+            if ((targetIndex < 0 || !targetAccessor.isWritable(targetIndex)) && namingCaseMatch) {
+                targetIndex = normalizedTargets.getOrDefault(normalize(propertyName), -1);
+            }
+            if (targetIndex < 0 || !targetAccessor.isWritable(targetIndex)) {
+                continue;
+            }
+            Class<?> targetPropertyType = targetAccessor.propertyType(targetIndex);
+            Converter<Object, Object> converter = conversionService.getConverter(sourceAccessor.propertyType(sourceIndex), targetPropertyType);
+            if (converter == null) {
+                continue;
+            }
+            sourceIndexes[count] = sourceIndex;
+            targetIndexes[count] = targetIndex;
+            converters[count] = ConversionService.isIdentity(converter) ? null : converter;
+            primitiveTargets[count] = targetPropertyType.isPrimitive();
+            count++;
+        }
+        return new CopyPlan(sourceAccessor, targetAccessor,
+                Arrays.copyOf(sourceIndexes, count), Arrays.copyOf(targetIndexes, count),
+                Arrays.copyOf(converters, count), Arrays.copyOf(primitiveTargets, count), ignoreNull);
+    }
+
+    private static String normalize(String propertyName) {
+        return NamingCase.toUnderlineCase(propertyName).toLowerCase();
+    }
+
+    /**
+     * 复制计划，按下标数组依次读取源属性、转换并写入目标属性
+     */
+    private static final class CopyPlan {
+        private final IndexedAccessor sourceAccessor;
+        private final IndexedAccessor targetAccessor;
+        private final int[] sourceIndexes;
+        private final int[] targetIndexes;
+        private final Converter<Object, Object>[] converters;
+        private final boolean[] primitiveTargets;
+        private final boolean ignoreNull;
+
+        CopyPlan(IndexedAccessor sourceAccessor,
+                 IndexedAccessor targetAccessor,
+                 int[] sourceIndexes,
+                 int[] targetIndexes,
+                 Converter<Object, Object>[] converters,
+                 boolean[] primitiveTargets,
+                 boolean ignoreNull) {
+            this.sourceAccessor = sourceAccessor;
+            this.targetAccessor = targetAccessor;
+            this.sourceIndexes = sourceIndexes;
+            this.targetIndexes = targetIndexes;
+            this.converters = converters;
+            this.primitiveTargets = primitiveTargets;
+            this.ignoreNull = ignoreNull;
+        }
+
+        void execute(Object source, Object target) {
+            for (int idx = 0; idx < sourceIndexes.length; idx++) {
+                Object value = sourceAccessor.get(source, sourceIndexes[idx]);
+                if (value != null && converters[idx] != null) {
+                    value = converters[idx].convert(value);
+                }
+                if (value == null && (ignoreNull || primitiveTargets[idx])) {
+                    continue;
+                }
+                targetAccessor.set(target, targetIndexes[idx], value);
+            }
+        }
+    }
+
+    /**
+     * 复制器构建器
+     */
+    public static final class Builder {
+        private ConversionService conversionService = ConversionService.getDefault();
+        private boolean ignoreNull;
+        private boolean namingCaseMatch = true;
+        private int parallelThreshold = 1024;
+
+        private Builder() {
+        }
+
+        /**
+         * 设置属性类型转换服务，默认使用{@link ConversionService#getDefault()}
+         *
+         * @param conversionService 类型转换服务
+         * @return 当前构建器
+         */
+        public Builder setConversionService(ConversionService conversionService) {
+            this.conversionService = conversionService;
+            return this;
+        }
+
+        /**
+         * 设置是否忽略源对象null属性值，默认复制null值，基本类型目标属性始终忽略null值
+         *
+         * @param ignoreNull 是否忽略null值
+         * @return 当前构建器
+         */
+        public Builder setIgnoreNull(boolean ignoreNull) {
+            this.ignoreNull = ignoreNull;
+            return this;
+        }
+
+        /**
+         * 设置属性名不一致时是否按下划线命名归一后匹配，默认开启
+         *
+         * @param namingCaseMatch 是否按命名风格归一匹配
+         * @return 当前构建器
+         */
+        public Builder setNamingCaseMatch(boolean namingCaseMatch) {
+            this.namingCaseMatch = namingCaseMatch;
+            return this;
+        }
+
+        /**
+         * 设置批量复制并行阈值，源列表长度不小于阈值时并行复制，默认1024
+         *
+         * @param parallelThreshold 并行阈值
+         * @return 当前构建器
+         */
+        public Builder setParallelThreshold(int parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * 创建复制器
+         *
+         * @return 复制器
+         */
+        public BeanMapper build() {
+            AssertTools.notNull(conversionService, "ConversionService must not be null");
+            AssertTools.isTrue(parallelThreshold > 0, "parallelThreshold must be positive");
+            return new BeanMapper(this);
+        }
+    }
+}
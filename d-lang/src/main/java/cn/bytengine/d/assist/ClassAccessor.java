@@ -2,13 +2,17 @@ package cn.bytengine.d.assist;
 
 import cn.bytengine.d.fn.invoker.MetaInfoInvoker;
 import cn.bytengine.d.fn.invoker.ReflectionOperationException;
+import cn.bytengine.d.lang.BasicType;
+import cn.bytengine.d.lang.ConversionService;
+import cn.bytengine.d.lang.Converter;
 import cn.bytengine.d.lang.reflect.ClassInfo;
 import cn.bytengine.d.lang.reflect.MethodInfo;
 import cn.bytengine.d.lang.reflect.PropertyInfo;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 
 /**
  * Class访问器，并提供实例访问方式
@@ -19,8 +23,8 @@ import java.util.Objects;
 public class ClassAccessor {
     private final ClassInfo classInfo;
 
-    private final Map<String, PropertyAccessor> propertyAccessorMap = new HashMap<>(16);
-    private final Map<String, MethodAccessor> methodAccessorMap = new HashMap<>(16);
+    private final Map<String, PropertyAccessor> propertyAccessorMap = new ConcurrentHashMap<>(16);
+    private final Map<String, MethodAccessor> methodAccessorMap = new ConcurrentHashMap<>(16);
 
     /**
      * 构造器
@@ -53,7 +57,7 @@ public class ClassAccessor {
         if (!classInfo.getType().equals(methodInfo.getOwnClass())) {
             throw new ReflectionOperationException("The invoker is not element in this class");
         }
-        methodAccessorMap.put(methodInfo.getMethodName(), new MethodAccessor(methodInfo, invoker));
+        methodAccessorMap.putIfAbsent(methodInfo.getMethodName(), new MethodAccessor(methodInfo, invoker));
     }
 
     /**
@@ -91,7 +95,7 @@ public class ClassAccessor {
         PropertyInfo propertyInfo = classInfo.getProperty(propertyName);
         MethodAccessor getter = propertyInfo.isCanRead() ? methodAccessorMap.get(propertyInfo.getGetter().getMethodName()) : null;
         MethodAccessor setter = propertyInfo.isCanWrite() ? methodAccessorMap.get(propertyInfo.getSetter().getMethodName()) : null;
-        propertyAccessorMap.put(propertyName, new PropertyAccessor(propertyInfo, getter, setter));
+        propertyAccessorMap.putIfAbsent(propertyName, new PropertyAccessor(propertyInfo, getter, setter));
     }
 
     /**
@@ -133,7 +137,7 @@ public class ClassAccessor {
     }
 
     /**
-     * 设置指定实例属性值
+     * 设置指定实例属性值，类型不一致时使用{@link ConversionService#getDefault()}转换
      *
      * @param me 对象实例
      * @param propertyName 属性名
@@ -163,6 +167,140 @@ public class ClassAccessor {
         }
         return (T) accessor.invoke(me, args);
     }
+
+    /**
+     * 获取下标访问器
+     *
+     * @return 下标访问器
+     * @see IndexedAccessors#get(Class)
+     */
+    public IndexedAccessor getIndexedAccessor() {
+        return IndexedAccessors.get(classInfo.getType());
+    }
+
+    /**
+     * 解析属性下标，调用方可缓存下标后使用{@link #get(Object, int)}、{@link #set(Object, int, Object)}访问
+     *
+     * @param propertyName 属性名
+     * @return 属性下标，不存在时返回-1
+     */
+    public int propertyIndex(String propertyName) {
+        return getIndexedAccessor().propertyIndex(propertyName);
+    }
+
+    /**
+     * 解析方法下标，调用方可缓存下标后使用{@link #invoke(Object, int, Object...)}调用
+     *
+     * @param methodName 方法名
+     * @return 方法下标，不存在时返回-1
+     */
+    public int methodIndex(String methodName) {
+        return getIndexedAccessor().methodIndex(methodName);
+    }
+
+    /**
+     * 按属性下标获取指定实例属性值
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @param <T>           属性类型
+     * @return 属性值
+     */
+    public <T> T get(Object me, int propertyIndex) {
+        return (T) getIndexedAccessor().get(me, propertyIndex);
+    }
+
+    /**
+     * 按属性下标设置指定实例属性值，类型不一致时使用{@link ConversionService#getDefault()}转换
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @param value         设置值
+     */
+    public void set(Object me, int propertyIndex, Object value) {
+        PropertyLayout layout = PropertyLayout.of(classInfo.getType());
+        layout.accessor.set(me, propertyIndex, layout.propertyConverters[propertyIndex].convert(value));
+    }
+
+    /**
+     * 按方法下标调用指定实例方法
+     *
+     * @param me          对象实例
+     * @param methodIndex 方法下标
+     * @param args        调用方法参数列表
+     * @param <T>         方法返回类型
+     * @return 方法返回值
+     */
+    public <T> T invoke(Object me, int methodIndex, Object... args) {
+        return (T) getIndexedAccessor().invoke(me, methodIndex, args);
+    }
+
+    /**
+     * 读取指定实例全部可读属性（含继承，不含class），返回按属性名排序、基于数组的只读Map快照
+     *
+     * @param me 对象实例
+     * @return 属性名与属性值只读Map
+     */
+    public Map<String, Object> toMap(Object me) {
+        PropertyLayout layout = PropertyLayout.of(classInfo.getType());
+        int[] readIndexes = layout.readIndexes;
+        Object[] values = new Object[readIndexes.length];
+        for (int idx = 0; idx < readIndexes.length; idx++) {
+            values[idx] = layout.accessor.get(me, readIndexes[idx]);
+        }
+        return new PropertyMap(layout.readNames, values);
+    }
+
+    /**
+     * 按属性名顺序遍历指定实例全部可读属性（含继承，不含class），不创建Map
+     *
+     * @param me      对象实例
+     * @param visitor 访问函数，参数为属性名和属性值
+     */
+    public void forEachProperty(Object me, BiConsumer<? super String, Object> visitor) {
+        PropertyLayout layout = PropertyLayout.of(classInfo.getType());
+        int[] readIndexes = layout.readIndexes;
+        String[] readNames = layout.readNames;
+        for (int idx = 0; idx < readIndexes.length; idx++) {
+            visitor.accept(readNames[idx], layout.accessor.get(me, readIndexes[idx]));
+        }
+    }
+
+    /**
+     * 使用公开无参构造器创建实例，并按属性名从Map设置可写属性（含继承）；
+     * Map中不存在的属性保持默认值，null值不写入基本类型属性，类型不一致时使用{@link ConversionService#getDefault()}转换
+     *
+     * @param map 属性名与属性值Map
+     * @param <T> 实例类型
+     * @return 实例
+     */
+    public <T> T fromMap(Map<String, ?> map) {
+        PropertyLayout layout = PropertyLayout.of(classInfo.getType());
+        Object me = layout.newInstance();
+        int[] writeIndexes = layout.writeIndexes;
+        String[] writeNames = layout.writeNames;
+        Class<?>[] writeTypes = layout.writeTypes;
+        for (int idx = 0; idx < writeIndexes.length; idx++) {
+            Object value = map.get(writeNames[idx]);
+            if (value == null) {
+                if (writeTypes[idx].isPrimitive() || !map.containsKey(writeNames[idx])) {
+                    continue;
+                }
+            } else if (!BasicType.wrap(writeTypes[idx]).isInstance(value)) {
+                Converter<Object, Object> converter = ConversionService.getDefault().getConverter(value.getClass(), writeTypes[idx]);
+                if (converter == null) {
+                    throw new ReflectionOperationException("The property " + writeNames[idx] + " can not be converted from "
+                            + value.getClass().getName() + " to " + writeTypes[idx].getName());
+                }
+                value = converter.convert(value);
+                if (value == null && writeTypes[idx].isPrimitive()) {
+                    continue;
+                }
+            }
+            layout.accessor.set(me, writeIndexes[idx], value);
+        }
+        return (T) me;
+    }
     // endregion
 
     @Override
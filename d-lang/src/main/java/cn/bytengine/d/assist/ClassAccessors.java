@@ -2,6 +2,7 @@ package cn.bytengine.d.assist;
 
 import cn.bytengine.d.lang.reflect.ClassInfo;
 import cn.bytengine.d.lang.reflect.ClassInfos;
+import cn.bytengine.d.lang.reflect.ClassRegistry;
 
 import java.util.*;
 import java.util.function.BiConsumer;
@@ -13,8 +14,8 @@ import java.util.function.BiConsumer;
  * @version 1.0
  */
 public class ClassAccessors {
-    private static final Map<Class<?>, ClassAccessor> classAccessorMap = new HashMap<>(16);
-    private static final Map<String, ClassAccessor> classNameAccessorMap = new HashMap<>(16);
+    private static final ClassRegistry<ClassAccessor> REGISTRY =
+            new ClassRegistry<>(type -> new ClassAccessor(ClassInfos.register(type)[0]));
 
     /**
      * 加载注册的类访问器注册器
@@ -26,38 +27,31 @@ public class ClassAccessors {
     }
 
     /**
-     * 注册指定类型
+     * 注册指定类型，并发注册同一类型时只创建一个类访问器
      *
      * @param key 指定类型
      * @return 类访问器
      */
     public static ClassAccessor register(Class<?> key) {
-        if (containsClass(key)) {
-            return get(key);
-        }
-        ClassInfo[] classInfos = ClassInfos.register(key);
-        ClassAccessor classAccessor = new ClassAccessor(classInfos[0]);
-        classAccessorMap.put(key, classAccessor);
-        classNameAccessorMap.put(key.getCanonicalName(), classAccessor);
-        return classAccessor;
+        return REGISTRY.register(key);
     }
 
     /**
-     * 清理已注册类访问器
+     * 获取已注册类访问器快照
      *
-     * @return 被清理类访问器
+     * @return 类访问器集合
      */
     public static Collection<ClassAccessor> classAccessors() {
-        return classAccessorMap.values();
+        return REGISTRY.values();
     }
 
     /**
-     * 获取所有注册类访问器
+     * 获取所有注册类访问器快照
      *
      * @return 类访问器集合
      */
     public static Set<Map.Entry<Class<?>, ClassAccessor>> classes() {
-        return classAccessorMap.entrySet();
+        return REGISTRY.entries();
     }
 
     /**
@@ -66,7 +60,7 @@ public class ClassAccessors {
      * @param action 类访问器消费函数
      */
     public static void each(BiConsumer<? super Class<?>, ? super ClassAccessor> action) {
-        classAccessorMap.forEach(action);
+        REGISTRY.forEach(action);
     }
 
     /**
@@ -76,7 +70,7 @@ public class ClassAccessors {
      * @return 是否已注册
      */
     public static boolean containsClass(String key) {
-        return classNameAccessorMap.containsKey(key);
+        return REGISTRY.contains(key);
     }
 
     /**
@@ -86,7 +80,7 @@ public class ClassAccessors {
      * @return 是否已注册
      */
     public static boolean containsClass(Class<?> key) {
-        return classAccessorMap.containsKey(key);
+        return REGISTRY.contains(key);
     }
 
     /**
@@ -106,7 +100,7 @@ public class ClassAccessors {
      * @return 是否已注册
      */
     public static boolean containsClassAccessor(ClassAccessor value) {
-        return classAccessorMap.containsValue(value);
+        return value.equals(REGISTRY.get(value.getClassInfo().getType()));
     }
 
     /**
@@ -116,7 +110,7 @@ public class ClassAccessors {
      * @return 类访问器
      */
     public static ClassAccessor get(Class<?> key) {
-        return classAccessorMap.get(key);
+        return REGISTRY.get(key);
     }
 
     /**
@@ -126,7 +120,7 @@ public class ClassAccessors {
      * @return 类访问器
      */
     public static ClassAccessor get(String key) {
-        return classNameAccessorMap.get(key);
+        return REGISTRY.get(key);
     }
 
     /**
@@ -138,4 +132,16 @@ public class ClassAccessors {
     public static ClassAccessor[] of(Class<?>... classes) {
         return Arrays.stream(classes).map(ClassAccessors::register).toArray(ClassAccessor[]::new);
     }
+
+    /**
+     * 移除指定类加载器（含其子加载器）加载类型的类名索引，应用卸载时调用
+     *
+     * @param classLoader 类加载器
+     * @return 移除的索引数
+     * @see ClassInfos#removeClassLoader(ClassLoader)
+     */
+    public static int removeClassLoader(ClassLoader classLoader) {
+        ClassInfos.removeClassLoader(classLoader);
+        return REGISTRY.removeClassLoader(classLoader);
+    }
 }
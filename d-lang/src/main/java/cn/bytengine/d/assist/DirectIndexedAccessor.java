@@ -0,0 +1,291 @@
+package cn.bytengine.d.assist;
+
+import cn.bytengine.d.fn.invoker.DirectInvokers;
+import cn.bytengine.d.fn.invoker.InvocationException;
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.fn.invoker.ReflectionOperationException;
+import cn.bytengine.d.lang.ArrayTools;
+import cn.bytengine.d.lang.CharSequenceTools;
+import cn.bytengine.d.lang.reflect.ClassInfo;
+import cn.bytengine.d.lang.reflect.MethodInfo;
+import cn.bytengine.d.lang.reflect.PropertyInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 基于直接调用器数组的下标访问器，类型没有d-assist-apt预生成的访问器时使用
+ * <p>
+ * 属性为类型全部公开bean属性（含继承），方法为非私有、非合成的声明方法及直接接口默认方法，
+ * 排序规则与预生成访问器一致，同一类型在两种实现下的成员下标相同。
+ * </p>
+ * <p>
+ * 属性名、方法名按排序数组保存，名称解析使用二分查找；成员调用器在首次访问时创建并写入数组，
+ * 并发首次访问时可能重复创建，调用器本身不可变，结果等价。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+final class DirectIndexedAccessor implements IndexedAccessor {
+    private final Class<?> type;
+
+    private final String[] propertyNames;
+    private final Class<?>[] propertyTypes;
+    private final Method[] getterMethods;
+    private final Method[] setterMethods;
+    private final Invoker[] getters;
+    private final Invoker[] setters;
+
+    private final String[] methodNames;
+    private final Method[] methods;
+    private final boolean[] staticMethods;
+    private final int[] parameterCounts;
+    private final Invoker[] invokers;
+
+    DirectIndexedAccessor(ClassInfo classInfo) {
+        this.type = classInfo.getType();
+
+        List<PropertyInfo> propertyInfos = new ArrayList<>(classInfo.propertyInfos());
+        propertyInfos.sort(Comparator.comparing(PropertyInfo::getName));
+        int propertyCount = propertyInfos.size();
+        this.propertyNames = new String[propertyCount];
+        this.propertyTypes = new Class<?>[propertyCount];
+        this.getterMethods = new Method[propertyCount];
+        this.setterMethods = new Method[propertyCount];
+        for (int idx = 0; idx < propertyCount; idx++) {
+            PropertyInfo propertyInfo = propertyInfos.get(idx);
+            propertyNames[idx] = propertyInfo.getName();
+            propertyTypes[idx] = propertyInfo.getType();
+            getterMethods[idx] = propertyInfo.isCanRead()
+                    ? propertyInfo.getGetter().getMethod()
+                    : findReadMethod(type, propertyNames[idx], propertyTypes[idx]);
+            setterMethods[idx] = propertyInfo.isCanWrite()
+                    ? propertyInfo.getSetter().getMethod()
+                    : findWriteMethod(type, propertyNames[idx], propertyTypes[idx]);
+        }
+        this.getters = new Invoker[propertyCount];
+        this.setters = new Invoker[propertyCount];
+
+        List<MethodInfo> methodInfos = new ArrayList<>();
+        classInfo.eachMethod((method, methodInfo) -> {
+            if (!Modifier.isPrivate(method.getModifiers()) && !method.isSynthetic()) {
+                methodInfos.add(methodInfo);
+            }
+        });
+        methodInfos.sort(Comparator.comparing(MethodInfo::getMethodName)
+                .thenComparing(methodInfo -> parameterSign(methodInfo.getMethod())));
+        int methodCount = methodInfos.size();
+        this.methodNames = new String[methodCount];
+        this.methods = new Method[methodCount];
+        this.staticMethods = new boolean[methodCount];
+        this.parameterCounts = new int[methodCount];
+        for (int idx = 0; idx < methodCount; idx++) {
+            MethodInfo methodInfo = methodInfos.get(idx);
+            methodNames[idx] = methodInfo.getMethodName();
+            methods[idx] = methodInfo.getMethod();
+            staticMethods[idx] = Modifier.isStatic(methods[idx].getModifiers());
+            parameterCounts[idx] = methodInfo.getParameterLength();
+        }
+        this.invokers = new Invoker[methodCount];
+    }
+
+    /**
+     * 按公开方法（含继承）查找属性getter，用于类信息未关联读方法的属性，
+     * 如早期生成的ClassInfoIndex或手工注册的类信息中的继承属性
+     *
+     * @param type         类型
+     * @param propertyName 属性名
+     * @param propertyType 属性类型
+     * @return getter，不存在时返回null
+     */
+    private static Method findReadMethod(Class<?> type, String propertyName, Class<?> propertyType) {
+        String suffix = CharSequenceTools.upperFirst(propertyName);
+        Method method = findPublicMethod(type, "get" + suffix);
+        if (method == null && propertyType == boolean.class) {
+            method = findPublicMethod(type, "is" + suffix);
+        }
+        return method != null && method.getReturnType() == propertyType ? method : null;
+    }
+
+    /**
+     * 按公开方法（含继承）查找属性setter，用于类信息未关联写方法的属性
+     *
+     * @param type         类型
+     * @param propertyName 属性名
+     * @param propertyType 属性类型
+     * @return setter，不存在时返回null
+     */
+    private static Method findWriteMethod(Class<?> type, String propertyName, Class<?> propertyType) {
+        return findPublicMethod(type, "set" + CharSequenceTools.upperFirst(propertyName), propertyType);
+    }
+
+    private static Method findPublicMethod(Class<?> type, String methodName, Class<?>... parameterTypes) {
+        try {
+            Method method = type.getMethod(methodName, parameterTypes);
+            return Modifier.isStatic(method.getModifiers()) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 方法参数类型签名，与d-assist-apt生成访问器的方法排序规则一致
+     *
+     * @param method 方法
+     * @return 以逗号结尾分隔的参数类型规范名
+     */
+    private static String parameterSign(Method method) {
+        StringBuilder sign = new StringBuilder();
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            String canonicalName = parameterType.getCanonicalName();
+            sign.append(canonicalName == null ? parameterType.getName() : canonicalName).append(',');
+        }
+        return sign.toString();
+    }
+
+    @Override
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public int getPropertyCount() {
+        return propertyNames.length;
+    }
+
+    @Override
+    public int getMethodCount() {
+        return methodNames.length;
+    }
+
+    @Override
+    public int propertyIndex(String propertyName) {
+        int index = Arrays.binarySearch(propertyNames, propertyName);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public int methodIndex(String methodName) {
+        int index = Arrays.binarySearch(methodNames, methodName);
+        if (index < 0) {
+            return -1;
+        }
+        while (index > 0 && methodNames[index - 1].equals(methodName)) {
+            index--;
+        }
+        return index;
+    }
+
+    @Override
+    public int methodIndex(String methodName, Class<?>... parameterTypes) {
+        int index = methodIndex(methodName);
+        if (index < 0) {
+            return -1;
+        }
+        for (; index < methodNames.length && methodNames[index].equals(methodName); index++) {
+            if (Arrays.equals(methods[index].getParameterTypes(), parameterTypes)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String propertyName(int propertyIndex) {
+        return propertyNames[propertyIndex];
+    }
+
+    @Override
+    public Class<?> propertyType(int propertyIndex) {
+        return propertyTypes[propertyIndex];
+    }
+
+    @Override
+    public boolean isReadable(int propertyIndex) {
+        return getterMethods[propertyIndex] != null;
+    }
+
+    @Override
+    public boolean isWritable(int propertyIndex) {
+        return setterMethods[propertyIndex] != null;
+    }
+
+    @Override
+    public String methodName(int methodIndex) {
+        return methodNames[methodIndex];
+    }
+
+    @Override
+    public Object get(Object me, int propertyIndex) {
+        Invoker getter = getters[propertyIndex];
+        if (getter == null) {
+            if (getterMethods[propertyIndex] == null) {
+                throw new ReflectionOperationException("The property is not readable: " + propertyNames[propertyIndex]);
+            }
+            getter = DirectInvokers.fromMethod(getterMethods[propertyIndex]);
+            getters[propertyIndex] = getter;
+        }
+        try {
+            return getter.invoke1(me);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    @Override
+    public void set(Object me, int propertyIndex, Object value) {
+        Invoker setter = setters[propertyIndex];
+        if (setter == null) {
+            if (setterMethods[propertyIndex] == null) {
+                throw new ReflectionOperationException("The property is not writable: " + propertyNames[propertyIndex]);
+            }
+            setter = DirectInvokers.fromMethod(setterMethods[propertyIndex]);
+            setters[propertyIndex] = setter;
+        }
+        try {
+            setter.invoke2(me, value);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object me, int methodIndex, Object... args) {
+        Invoker invoker = invokers[methodIndex];
+        if (invoker == null) {
+            invoker = DirectInvokers.fromMethod(methods[methodIndex]);
+            invokers[methodIndex] = invoker;
+        }
+        if (args == null) {
+            args = Invoker.EMPTY_ARGS;
+        }
+        if (args.length != parameterCounts[methodIndex]) {
+            throw new ReflectionOperationException("The method " + methodNames[methodIndex] + " requires "
+                    + parameterCounts[methodIndex] + " arguments, but " + args.length + " given");
+        }
+        try {
+            if (staticMethods[methodIndex]) {
+                return invoker.invoke(args);
+            }
+            switch (args.length) {
+                case 0:
+                    return invoker.invoke1(me);
+                case 1:
+                    return invoker.invoke2(me, args[0]);
+                case 2:
+                    return invoker.invoke3(me, args[0], args[1]);
+                case 3:
+                    return invoker.invoke4(me, args[0], args[1], args[2]);
+                default:
+                    return invoker.invoke(ArrayTools.insert(args, 0, me));
+            }
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+}
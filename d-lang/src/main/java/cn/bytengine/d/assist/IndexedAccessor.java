@@ -0,0 +1,129 @@
+package cn.bytengine.d.assist;
+
+/**
+ * 按下标访问类成员的访问器
+ * <p>
+ * 属性和方法各自按名称排序编号，调用方可通过{@link #propertyIndex(String)}、{@link #methodIndex(String)}
+ * 解析一次下标并缓存，之后按下标访问，避免每次调用按名称查找。
+ * 下标仅在同一访问器实例内有效，不应持久化。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see IndexedAccessors
+ */
+public interface IndexedAccessor {
+    /**
+     * 获取访问的类型
+     *
+     * @return 类型
+     */
+    Class<?> getType();
+
+    /**
+     * 获取属性数量
+     *
+     * @return 属性数量
+     */
+    int getPropertyCount();
+
+    /**
+     * 获取方法数量
+     *
+     * @return 方法数量
+     */
+    int getMethodCount();
+
+    /**
+     * 解析属性下标
+     *
+     * @param propertyName 属性名
+     * @return 属性下标，不存在时返回-1
+     */
+    int propertyIndex(String propertyName);
+
+    /**
+     * 解析方法下标，存在重载方法时返回方法签名排序后的第一个
+     *
+     * @param methodName 方法名
+     * @return 方法下标，不存在时返回-1
+     */
+    int methodIndex(String methodName);
+
+    /**
+     * 按方法名和参数类型解析方法下标
+     *
+     * @param methodName     方法名
+     * @param parameterTypes 参数类型列表
+     * @return 方法下标，不存在时返回-1
+     */
+    int methodIndex(String methodName, Class<?>... parameterTypes);
+
+    /**
+     * 获取指定下标属性名
+     *
+     * @param propertyIndex 属性下标
+     * @return 属性名
+     */
+    String propertyName(int propertyIndex);
+
+    /**
+     * 获取指定下标属性类型
+     *
+     * @param propertyIndex 属性下标
+     * @return 属性类型
+     */
+    Class<?> propertyType(int propertyIndex);
+
+    /**
+     * 指定下标属性是否可读
+     *
+     * @param propertyIndex 属性下标
+     * @return 是否可读
+     */
+    boolean isReadable(int propertyIndex);
+
+    /**
+     * 指定下标属性是否可写
+     *
+     * @param propertyIndex 属性下标
+     * @return 是否可写
+     */
+    boolean isWritable(int propertyIndex);
+
+    /**
+     * 获取指定下标方法名
+     *
+     * @param methodIndex 方法下标
+     * @return 方法名
+     */
+    String methodName(int methodIndex);
+
+    /**
+     * 读取指定实例属性值
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @return 属性值
+     */
+    Object get(Object me, int propertyIndex);
+
+    /**
+     * 设置指定实例属性值
+     *
+     * @param me            对象实例
+     * @param propertyIndex 属性下标
+     * @param value         设置值
+     */
+    void set(Object me, int propertyIndex, Object value);
+
+    /**
+     * 调用指定实例方法，静态方法忽略对象实例
+     *
+     * @param me          对象实例
+     * @param methodIndex 方法下标
+     * @param args        调用方法参数列表
+     * @return 方法返回值
+     */
+    Object invoke(Object me, int methodIndex, Object... args);
+}
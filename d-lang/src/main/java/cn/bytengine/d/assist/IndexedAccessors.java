@@ -0,0 +1,87 @@
+package cn.bytengine.d.assist;
+
+import cn.bytengine.d.lang.AssertTools;
+import cn.bytengine.d.lang.reflect.ClassInfo;
+import cn.bytengine.d.lang.reflect.ClassInfos;
+
+/**
+ * 下标访问器生成工具，按类型缓存生成的访问器
+ * <p>
+ * {@link cn.bytengine.d.assist.annotations.ClassAccess}类型优先使用d-assist-apt预生成的访问器，按下标switch直接调用成员；
+ * 生成类与类型位于同一包，类名为类型在包内的名称（嵌套类以'_'连接）加IndexedAccessor后缀，通过类型自身的类加载器按类名加载。
+ * 没有预生成访问器时，为每个成员创建直接调用器（见{@link cn.bytengine.d.fn.invoker.DirectInvokers}），
+ * 按下标从调用器数组中取出并直接调用，调用器在成员首次访问时创建。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public abstract class IndexedAccessors {
+    /**
+     * 预生成访问器类名后缀
+     */
+    public static final String CLASS_NAME_SUFFIX = "IndexedAccessor";
+
+    private static final ClassValue<IndexedAccessor> INDEXED_ACCESSOR_CACHE = new ClassValue<IndexedAccessor>() {
+        @Override
+        protected IndexedAccessor computeValue(Class<?> type) {
+            IndexedAccessor generated = findGenerated(type);
+            if (generated != null) {
+                return generated;
+            }
+            ClassInfo classInfo = ClassInfos.containsClass(type) ? ClassInfos.get(type) : ClassInfo.of(type);
+            return generate(classInfo);
+        }
+    };
+
+    private IndexedAccessors() {
+    }
+
+    /**
+     * 获取指定类型的下标访问器
+     *
+     * @param type 类型
+     * @return 下标访问器
+     */
+    public static IndexedAccessor get(Class<?> type) {
+        AssertTools.notNull(type, "type must not be null");
+        return INDEXED_ACCESSOR_CACHE.get(type);
+    }
+
+    /**
+     * 查找指定类型预生成的下标访问器
+     *
+     * @param type 类型
+     * @return 下标访问器，不存在时返回null
+     */
+    private static IndexedAccessor findGenerated(Class<?> type) {
+        if (type.isArray() || type.isPrimitive() || type.isHidden()) {
+            return null;
+        }
+        String packageName = type.getPackageName();
+        String simpleBinaryName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        String accessorClassName = (packageName.isEmpty() ? "" : packageName + ".")
+                + simpleBinaryName.replace('$', '_') + CLASS_NAME_SUFFIX;
+        try {
+            Class<?> accessorClass = Class.forName(accessorClassName, false, type.getClassLoader());
+            if (!IndexedAccessor.class.isAssignableFrom(accessorClass)) {
+                return null;
+            }
+            IndexedAccessor accessor = (IndexedAccessor) accessorClass.getDeclaredConstructor().newInstance();
+            return accessor.getType() == type ? accessor : null;
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 根据类信息生成新的下标访问器，不使用缓存
+     *
+     * @param classInfo 类信息
+     * @return 下标访问器
+     */
+    public static IndexedAccessor generate(ClassInfo classInfo) {
+        AssertTools.notNull(classInfo, "ClassInfo must not be null");
+        return new DirectIndexedAccessor(classInfo);
+    }
+}
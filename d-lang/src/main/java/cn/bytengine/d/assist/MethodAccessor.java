@@ -1,12 +1,17 @@
 package cn.bytengine.d.assist;
 
 import cn.bytengine.d.fn.invoker.InvocationException;
+import cn.bytengine.d.fn.invoker.Invoker;
 import cn.bytengine.d.fn.invoker.MetaInfoInvoker;
 import cn.bytengine.d.lang.ArrayTools;
 import cn.bytengine.d.lang.reflect.MethodInfo;
 
 /**
  * 方法访问器
+ * <p>
+ * invoke0-invoke3按方法参数个数调用，对象实例作为调用器首个参数直接传递，不组装参数数组；
+ * 参数类型与方法参数类型不一致时按{@link MetaInfoInvoker#convertArgument(int, Object)}转换
+ * </p>
  *
  * @author Ban Tenio
  * @version 1.0
@@ -52,8 +57,89 @@ public class MethodAccessor {
      * @return 方法返回值
      */
     public Object invoke(Object me, Object... args) {
+        if (args == null) {
+            args = Invoker.EMPTY_ARGS;
+        }
+        switch (args.length) {
+            case 0:
+                return invoke0(me);
+            case 1:
+                return invoke1(me, args[0]);
+            case 2:
+                return invoke2(me, args[0], args[1]);
+            case 3:
+                return invoke3(me, args[0], args[1], args[2]);
+            default:
+                try {
+                    return metaInfoInvoker.invokeConverted(ArrayTools.insert(args, 0, me));
+                } catch (Throwable e) {
+                    throw new InvocationException(e);
+                }
+        }
+    }
+
+    /**
+     * 调用指定对象实例无参数方法
+     *
+     * @param me 对象实例
+     * @return 方法返回值
+     */
+    public Object invoke0(Object me) {
+        try {
+            return metaInfoInvoker.invoke1(me);
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    /**
+     * 调用指定对象实例1个参数方法
+     *
+     * @param me   对象实例
+     * @param arg1 参数1
+     * @return 方法返回值
+     */
+    public Object invoke1(Object me, Object arg1) {
+        try {
+            return metaInfoInvoker.invoke2(me, metaInfoInvoker.convertArgument(0, arg1));
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    /**
+     * 调用指定对象实例2个参数方法
+     *
+     * @param me   对象实例
+     * @param arg1 参数1
+     * @param arg2 参数2
+     * @return 方法返回值
+     */
+    public Object invoke2(Object me, Object arg1, Object arg2) {
+        try {
+            return metaInfoInvoker.invoke3(me,
+                    metaInfoInvoker.convertArgument(0, arg1),
+                    metaInfoInvoker.convertArgument(1, arg2));
+        } catch (Throwable e) {
+            throw new InvocationException(e);
+        }
+    }
+
+    /**
+     * 调用指定对象实例3个参数方法
+     *
+     * @param me   对象实例
+     * @param arg1 参数1
+     * @param arg2 参数2
+     * @param arg3 参数3
+     * @return 方法返回值
+     */
+    public Object invoke3(Object me, Object arg1, Object arg2, Object arg3) {
         try {
-            return metaInfoInvoker.invoke(ArrayTools.insert(args, 0, me));
+            return metaInfoInvoker.invoke4(me,
+                    metaInfoInvoker.convertArgument(0, arg1),
+                    metaInfoInvoker.convertArgument(1, arg2),
+                    metaInfoInvoker.convertArgument(2, arg3));
         } catch (Throwable e) {
             throw new InvocationException(e);
         }
@@ -54,13 +54,13 @@ public class PropertyAccessor {
     }
 
     /**
-     * 设置指定实例属性值
+     * 设置指定实例属性值，类型不一致时按属性类型转换
      *
      * @param me    实例对象
      * @param value 设置值
      */
     public void set(Object me, Object value) {
-        setter.invoke(me, value);
+        setter.invoke1(me, value);
     }
 
     /**
@@ -70,6 +70,6 @@ public class PropertyAccessor {
      * @return 属性值
      */
     public Object get(Object me) {
-        return getter.invoke(me);
+        return getter.invoke0(me);
     }
 }
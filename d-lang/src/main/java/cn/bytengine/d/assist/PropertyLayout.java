@@ -0,0 +1,113 @@
+package cn.bytengine.d.assist;
+
+import cn.bytengine.d.fn.invoker.ReflectionOperationException;
+import cn.bytengine.d.lang.TargetTypeConverter;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * 属性布局，预先计算类型可读、可写属性的下标、名称和类型，
+ * 供对象与Map互转时按数组顺序访问，不再逐次遍历类信息
+ * <p>
+ * 属性取自{@link IndexedAccessors#get(Class)}，预生成访问器与基于直接调用器的访问器均覆盖类型全部公开bean属性（含继承）；
+ * 可读属性名按字典序排列，可直接作为{@link PropertyMap}的键数组共享；
+ * Object#getClass推导出的class属性不计入布局。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+final class PropertyLayout {
+    private static final String CLASS_PROPERTY = "class";
+    private static final ClassValue<PropertyLayout> PROPERTY_LAYOUT_CACHE = new ClassValue<PropertyLayout>() {
+        @Override
+        protected PropertyLayout computeValue(Class<?> type) {
+            return new PropertyLayout(IndexedAccessors.get(type));
+        }
+    };
+
+    final IndexedAccessor accessor;
+    final int[] readIndexes;
+    final String[] readNames;
+    final int[] writeIndexes;
+    final String[] writeNames;
+    final Class<?>[] writeTypes;
+    final TargetTypeConverter[] propertyConverters;
+    private final Constructor<?> constructor;
+
+    PropertyLayout(IndexedAccessor accessor) {
+        this.accessor = accessor;
+        int propertyCount = accessor.getPropertyCount();
+        int[] readIndexes = new int[propertyCount];
+        int[] writeIndexes = new int[propertyCount];
+        int readCount = 0;
+        int writeCount = 0;
+        for (int idx = 0; idx < propertyCount; idx++) {
+            if (CLASS_PROPERTY.equals(accessor.propertyName(idx))) {
+                continue;
+            }
+            if (accessor.isReadable(idx)) {
+                readIndexes[readCount++] = idx;
+            }
+            if (accessor.isWritable(idx)) {
+                writeIndexes[writeCount++] = idx;
+            }
+        }
+        this.readIndexes = Arrays.copyOf(readIndexes, readCount);
+        this.readNames = new String[readCount];
+        for (int idx = 0; idx < readCount; idx++) {
+            readNames[idx] = accessor.propertyName(this.readIndexes[idx]);
+        }
+        this.writeIndexes = Arrays.copyOf(writeIndexes, writeCount);
+        this.writeNames = new String[writeCount];
+        this.writeTypes = new Class<?>[writeCount];
+        for (int idx = 0; idx < writeCount; idx++) {
+            writeNames[idx] = accessor.propertyName(this.writeIndexes[idx]);
+            writeTypes[idx] = accessor.propertyType(this.writeIndexes[idx]);
+        }
+        this.propertyConverters = new TargetTypeConverter[propertyCount];
+        for (int idx = 0; idx < propertyCount; idx++) {
+            propertyConverters[idx] = TargetTypeConverter.of(accessor.propertyType(idx));
+        }
+        this.constructor = resolveConstructor(accessor.getType());
+    }
+
+    /**
+     * 获取指定类型的属性布局
+     *
+     * @param type 类型
+     * @return 属性布局
+     */
+    static PropertyLayout of(Class<?> type) {
+        return PROPERTY_LAYOUT_CACHE.get(type);
+    }
+
+    /**
+     * 使用公开无参构造器创建实例
+     *
+     * @return 实例
+     */
+    Object newInstance() {
+        if (constructor == null) {
+            throw new ReflectionOperationException("No public no-arg constructor: " + accessor.getType().getName());
+        }
+        try {
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ReflectionOperationException(e);
+        }
+    }
+
+    private static Constructor<?> resolveConstructor(Class<?> type) {
+        if (!Modifier.isPublic(type.getModifiers()) || Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+            return null;
+        }
+        try {
+            return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package cn.bytengine.d.assist;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 基于数组的只读属性Map
+ * <p>
+ * 键数组按字典序排列并在同一类型的所有实例间共享，值数组为读取时的属性值快照，
+ * 按键查找使用二分查找；修改操作抛出{@link UnsupportedOperationException}。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+final class PropertyMap extends AbstractMap<String, Object> {
+    private final String[] names;
+    private final Object[] values;
+    private Set<Map.Entry<String, Object>> entrySet;
+
+    PropertyMap(String[] names, Object[] values) {
+        this.names = names;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int idx = 0; idx < names.length; idx++) {
+            action.accept(names[idx], values[idx]);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(names, key);
+        return index < 0 ? -1 : index;
+    }
+
+    /**
+     * 按下标遍历的只读条目集合
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        @Override
+        public int size() {
+            return names.length;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new Iterator<Map.Entry<String, Object>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < names.length;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (index >= names.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int current = index++;
+                    return new SimpleImmutableEntry<>(names[current], values[current]);
+                }
+            };
+        }
+    }
+}
@@ -220,9 +220,9 @@ public class ReferenceConcurrentMap<K, V> implements ConcurrentMap<K, V>, Iterab
     }
 
     /**
-     * 清除被回收的键
+     * 清除被回收的键，Map各操作前会自动执行，也可由外部定时调用以及时释放值对象
      */
-    private void purgeStaleKeys() {
+    public void purgeStaleKeys() {
         Reference<? extends K> reference;
         V value;
         while ((reference = this.lastQueue.poll()) != null) {
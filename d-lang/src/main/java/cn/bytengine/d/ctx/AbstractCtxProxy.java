@@ -75,6 +75,37 @@ public abstract class AbstractCtxProxy implements CtxProxy {
         return delegate.remove(key);
     }
 
+    @Override
+    public <T> T get(CtxKey<T> key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(CtxKey<T> key, Supplier<T> defaultValSupplier) {
+        return delegate.get(key, defaultValSupplier);
+    }
+
+    @Override
+    public <T> Ctx set(CtxKey<T> key, T value) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("current Ctx is read only");
+        }
+        return delegate.set(key, value);
+    }
+
+    @Override
+    public boolean has(CtxKey<?> key) {
+        return delegate.has(key);
+    }
+
+    @Override
+    public Ctx remove(CtxKey<?> key) {
+        if (readOnly) {
+            throw new UnsupportedOperationException("current Ctx is read only");
+        }
+        return delegate.remove(key);
+    }
+
     @Override
     public <T> T getByType(String key, Class<T> type) {
         return delegate.getByType(key, type);
@@ -1,12 +1,12 @@
 package cn.bytengine.d.ctx;
 
+import cn.bytengine.d.lang.ConversionService;
+
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static java.time.format.DateTimeFormatter.ISO_INSTANT;
-
 /**
  * 逻辑执行上下文
  *
@@ -48,7 +48,67 @@ public interface Ctx {
     Ctx remove(String key);
 
     /**
-     * 根据指定类型获取指定参数
+     * 按类型化Key获取上下文参数
+     *
+     * @param key 上下文参数Key
+     * @param <T> 参数值类型
+     * @return 参数值
+     */
+    default <T> T get(CtxKey<T> key) {
+        return key.cast(get(key.getName()));
+    }
+
+    /**
+     * 按类型化Key获取上下文参数，如果该参数不存在，使用默认值提供函数的结果设置并返回
+     *
+     * @param key                上下文参数Key
+     * @param defaultValSupplier 无参数调用默认值提供函数
+     * @param <T>                参数值类型
+     * @return 参数值
+     */
+    default <T> T get(CtxKey<T> key, Supplier<T> defaultValSupplier) {
+        if (has(key)) {
+            return get(key);
+        }
+        T defaultVal = defaultValSupplier.get();
+        set(key, defaultVal);
+        return defaultVal;
+    }
+
+    /**
+     * 按类型化Key设置上下文参数
+     *
+     * @param key   上下文参数Key
+     * @param value 参数值
+     * @param <T>   参数值类型
+     * @return 当前上下文对象
+     */
+    default <T> Ctx set(CtxKey<T> key, T value) {
+        return set(key.getName(), value);
+    }
+
+    /**
+     * 上下文是否包含类型化Key参数
+     *
+     * @param key 上下文参数Key
+     * @return 是否包含参数
+     */
+    default boolean has(CtxKey<?> key) {
+        return has(key.getName());
+    }
+
+    /**
+     * 删除上下文类型化Key参数
+     *
+     * @param key 上下文参数Key
+     * @return 当前上下文对象
+     */
+    default Ctx remove(CtxKey<?> key) {
+        return remove(key.getName());
+    }
+
+    /**
+     * 根据指定类型获取指定参数，参数值类型不一致时使用{@link ConversionService#getDefault()}转换
      *
      * @param key  指定参数名
      * @param type 参数值返回类型
@@ -56,7 +116,7 @@ public interface Ctx {
      * @return 参数值，根据指定类型返回
      */
     default <T> T getByType(String key, Class<T> type) {
-        return type.cast(get(key));
+        return ConversionService.getDefault().convert(get(key), type);
     }
 
     /**
@@ -102,19 +162,7 @@ public interface Ctx {
      */
     default String getString(String key) {
         Objects.requireNonNull(key);
-        Object val = get(key);
-        if (val == null) {
-            return null;
-        }
-        if (val instanceof Instant) {
-            return ISO_INSTANT.format((Instant) val);
-        } else if (val instanceof byte[]) {
-            return new String((byte[]) val);
-        } else if (val instanceof Enum) {
-            return ((Enum) val).name();
-        } else {
-            return val.toString();
-        }
+        return getByType(key, String.class);
     }
 
     /**
@@ -240,14 +288,7 @@ public interface Ctx {
      */
     default Byte getByte(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Byte) {
-            return (Byte) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.byteValue();
-        }
+        return getByType(key, Byte.class);
     }
 
     /**
@@ -289,14 +330,7 @@ public interface Ctx {
      */
     default Short getShort(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Short) {
-            return (Short) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.shortValue();
-        }
+        return getByType(key, Short.class);
     }
 
     /**
@@ -338,14 +372,7 @@ public interface Ctx {
      */
     default Integer getInteger(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Integer) {
-            return (Integer) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.intValue();
-        }
+        return getByType(key, Integer.class);
     }
 
     /**
@@ -387,14 +414,7 @@ public interface Ctx {
      */
     default Long getLong(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Long) {
-            return (Long) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.longValue();
-        }
+        return getByType(key, Long.class);
     }
 
     /**
@@ -436,14 +456,7 @@ public interface Ctx {
      */
     default Double getDouble(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Double) {
-            return (Double) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.doubleValue();
-        }
+        return getByType(key, Double.class);
     }
 
     /**
@@ -485,14 +498,7 @@ public interface Ctx {
      */
     default Float getFloat(String key) {
         Objects.requireNonNull(key);
-        Number number = getByType(key, Number.class);
-        if (number == null) {
-            return null;
-        } else if (number instanceof Float) {
-            return (Float) number;  // Avoids unnecessary unbox/box
-        } else {
-            return number.floatValue();
-        }
+        return getByType(key, Float.class);
     }
 
     /**
@@ -576,15 +582,7 @@ public interface Ctx {
      */
     default Instant getInstant(String key) {
         Objects.requireNonNull(key);
-        Object val = get(key);
-        if (val == null) {
-            return null;
-        }
-        if (val instanceof Instant) {
-            return (Instant) val;
-        }
-        String encoded = (String) val;
-        return Instant.from(ISO_INSTANT.parse(encoded));
+        return getByType(key, Instant.class);
     }
 
     /**
@@ -2,8 +2,11 @@ package cn.bytengine.d.ctx;
 
 import cn.bytengine.d.lang.AssertTools;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -11,16 +14,22 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * 上下文实现类
  * <p>
- * 它是基于Map为存储结构的实现。
- * 并且它实现了父子关系
+ * 已注册{@link CtxKey}的参数存放在按槽位下标访问的数组中，数组写时复制，读取无需加锁；
+ * 其它动态参数存放在Map中，Map在首次设置动态参数时创建。
+ * 按字符串Key访问时先查找动态参数，未命中时再判断是否为已注册Key并路由到对应槽位，动态参数命中时不查找注册表；
+ * Key注册前以字符串设置的同名动态参数，在首次按该Key访问时迁移到槽位，之后按字符串和按Key访问结果一致。
+ * 当前上下文不包含参数时继续查找父级上下文。
  * </p>
  *
  * @author Ban Tenio
  * @version 1.0
  */
 public class CtxImpl implements Ctx {
+    private static final Object[] NO_SLOTS = new Object[0];
+
     private Ctx parentCtx;
-    private Map<String, Object> source;
+    private volatile Object[] slots = NO_SLOTS;
+    private volatile Map<String, Object> source;
 
     /**
      * 上下文构造器
@@ -35,63 +44,110 @@ public class CtxImpl implements Ctx {
      * @param parentCtx 父级上下文
      */
     public CtxImpl(final Ctx parentCtx) {
-        this.source = new ConcurrentHashMap<>();
         this.parentCtx = parentCtx;
     }
 
     /**
-     * 上下文构造器，指定数据源
+     * 上下文构造器，指定数据源，忽略null值
      *
      * @param source 数据源
      */
     public CtxImpl(final Map<String, ?> source) {
-        Set<String> strings = source.keySet();
-        List<String> keys = new ArrayList<>(strings);
-        for (String key : keys) {
-            if (source.get(key) == null) {
-                source.remove(key);
-            }
-        }
-        this.source = new ConcurrentHashMap<>(source);
-        this.parentCtx = null;
+        this(null, source);
     }
 
     /**
-     * 上下文构造器，指定父级上下文和数据源
+     * 上下文构造器，指定父级上下文和数据源，忽略null值
      *
      * @param parentCtx 父级上下文
      * @param source    数据源
      */
     public CtxImpl(final Ctx parentCtx, final Map<String, ?> source) {
-        this.source = source == null ? null : new ConcurrentHashMap<>(source);
         this.parentCtx = parentCtx;
+        if (source != null) {
+            for (Map.Entry<String, ?> entry : source.entrySet()) {
+                if (entry.getValue() != null) {
+                    set(entry.getKey(), entry.getValue());
+                }
+            }
+        }
     }
 
     @Override
     public Object get(String key) {
         AssertTools.notNull(key, "The key is null.");
-        Object obj = this.source.get(key);
+        Map<String, Object> current = this.source;
+        Object obj = current == null ? null : current.get(key);
+        if (obj != null) {
+            return obj;
+        }
+        CtxKey<?> ctxKey = CtxKey.find(key);
+        if (ctxKey != null) {
+            return get(ctxKey);
+        }
+        return this.parentCtx == null ? null : this.parentCtx.get(key);
+    }
+
+    @Override
+    public <T> T get(CtxKey<T> key) {
+        migrateDynamic(key);
+        Object[] current = this.slots;
+        int slot = key.getSlot();
+        Object obj = slot < current.length ? current[slot] : null;
         if (obj == null && this.parentCtx != null) {
-            obj = this.parentCtx.get(key);
+            return this.parentCtx.get(key);
         }
-        return obj;
+        return key.cast(obj);
     }
 
     @Override
     public Ctx set(String key, Object value) {
         AssertTools.notNull(key, "The key is null.");
-        if (value != null) {
-            this.source.put(key, value);
-        } else {
-            this.source.remove(key);
+        Map<String, Object> current = this.source;
+        if (value != null && current != null && current.replace(key, value) != null) {
+            return this;
+        }
+        CtxKey<?> ctxKey = CtxKey.find(key);
+        if (ctxKey != null) {
+            setSlot(ctxKey.getSlot(), ctxKey.cast(value));
+        } else if (value != null) {
+            dynamicSource().put(key, value);
+        } else if (current != null) {
+            current.remove(key);
+        }
+        return this;
+    }
+
+    @Override
+    public <T> Ctx set(CtxKey<T> key, T value) {
+        Map<String, Object> current = this.source;
+        if (current != null) {
+            current.remove(key.getName());
         }
+        setSlot(key.getSlot(), key.cast(value));
         return this;
     }
 
     @Override
     public boolean has(String key) {
         AssertTools.notNull(key, "The key is null.");
-        if (this.source.containsKey(key)) {
+        Map<String, Object> current = this.source;
+        if (current != null && current.containsKey(key)) {
+            return true;
+        }
+        CtxKey<?> ctxKey = CtxKey.find(key);
+        if (ctxKey != null) {
+            return has(ctxKey);
+        }
+        return parentCtx != null && parentCtx.has(key);
+    }
+
+    @Override
+    public boolean has(CtxKey<?> key) {
+        migrateDynamic(key);
+        Object[] current = this.slots;
+        int slot = key.getSlot();
+        if (slot < current.length && current[slot] != null) {
             return true;
         } else {
             return parentCtx != null && parentCtx.has(key);
@@ -101,6 +157,24 @@ public class CtxImpl implements Ctx {
     @Override
     public CtxImpl remove(String key) {
         AssertTools.notNull(key, "The key is null.");
+        Map<String, Object> current = this.source;
+        if (current != null && current.remove(key) != null) {
+            return this;
+        }
+        CtxKey<?> ctxKey = CtxKey.find(key);
+        if (ctxKey != null) {
+            setSlot(ctxKey.getSlot(), null);
+        }
+        return this;
+    }
+
+    @Override
+    public CtxImpl remove(CtxKey<?> key) {
+        Map<String, Object> current = this.source;
+        if (current != null) {
+            current.remove(key.getName());
+        }
+        setSlot(key.getSlot(), null);
         return this;
     }
 
@@ -115,34 +189,209 @@ public class CtxImpl implements Ctx {
      * @return 上下文
      */
     public CtxImpl clear() {
-        this.source.clear();
+        synchronized (this) {
+            this.slots = NO_SLOTS;
+        }
+        if (this.source != null) {
+            this.source.clear();
+        }
         return this;
     }
 
     /**
-     * 获取上下文源
+     * 获取上下文源，包含已注册{@link CtxKey}的参数和动态参数，不包含父级上下文参数；
+     * 返回的Map为当前上下文的实时视图，读写均作用于当前上下文
      *
      * @return 上下文源
      */
     public Map<String, Object> getSource() {
-        return this.source;
+        return new SourceView();
     }
 
     /**
-     * 设置上下文源
+     * 设置上下文源，清空当前上下文后逐个设置数据源中的非null参数，已注册{@link CtxKey}的参数存放到对应槽位
      *
      * @param source 上下文源
      * @return 上下文
      */
     public CtxImpl setSource(Map<String, Object> source) {
-        this.source = source;
+        synchronized (this) {
+            this.slots = NO_SLOTS;
+            this.source = null;
+        }
+        if (source != null) {
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                if (entry.getValue() != null) {
+                    set(entry.getKey(), entry.getValue());
+                }
+            }
+        }
         return this;
     }
 
+    private synchronized void setSlot(int slot, Object value) {
+        Object[] current = this.slots;
+        if (slot >= current.length && value == null) {
+            return;
+        }
+        Object[] updated = Arrays.copyOf(current, Math.max(current.length, Math.max(slot + 1, CtxKey.slotCount())));
+        updated[slot] = value;
+        this.slots = updated;
+    }
+
+    /**
+     * 将Key注册前以字符串设置的同名动态参数迁移到槽位，槽位已有值时以槽位为准
+     *
+     * @param key 上下文Key
+     */
+    private void migrateDynamic(CtxKey<?> key) {
+        Map<String, Object> current = this.source;
+        if (current == null || current.get(key.getName()) == null) {
+            return;
+        }
+        Object dynamic = current.remove(key.getName());
+        if (dynamic != null) {
+            synchronized (this) {
+                Object[] currentSlots = this.slots;
+                int slot = key.getSlot();
+                if (slot >= currentSlots.length || currentSlots[slot] == null) {
+                    setSlot(slot, key.cast(dynamic));
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> dynamicSource() {
+        Map<String, Object> current = this.source;
+        if (current == null) {
+            synchronized (this) {
+                current = this.source;
+                if (current == null) {
+                    current = new ConcurrentHashMap<>();
+                    this.source = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, Object> keyedSnapshot() {
+        Map<String, Object> keyed = new LinkedHashMap<>();
+        Object[] current = this.slots;
+        for (int slot = 0; slot < current.length; slot++) {
+            if (current[slot] != null) {
+                keyed.put(CtxKey.bySlot(slot).getName(), current[slot]);
+            }
+        }
+        return keyed;
+    }
+
+    /**
+     * 当前上下文参数实时视图，合并槽位参数和动态参数，遍历时基于调用时的快照
+     */
+    private final class SourceView extends AbstractMap<String, Object> {
+        @Override
+        public Object get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            Map<String, Object> current = source;
+            Object obj = current == null ? null : current.get(key);
+            if (obj == null) {
+                CtxKey<?> ctxKey = CtxKey.find((String) key);
+                Object[] currentSlots = slots;
+                if (ctxKey != null && ctxKey.getSlot() < currentSlots.length) {
+                    obj = currentSlots[ctxKey.getSlot()];
+                }
+            }
+            return obj;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            Object previous = get(key);
+            set(key, value);
+            return previous;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            Object previous = get(key);
+            if (previous != null) {
+                CtxImpl.this.remove((String) key);
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            CtxImpl.this.clear();
+        }
+
+        /**
+         * 合并槽位参数和动态参数的快照，同名时与按字符串读取一致，以动态参数为准
+         *
+         * @return 参数快照
+         */
+        private Map<String, Object> snapshot() {
+            Map<String, Object> snapshot = keyedSnapshot();
+            Map<String, Object> current = source;
+            if (current != null) {
+                snapshot.putAll(current);
+            }
+            return snapshot;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<Entry<String, Object>>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<Entry<String, Object>> iterator = snapshot().entrySet().iterator();
+                    return new Iterator<Entry<String, Object>>() {
+                        private Entry<String, Object> last;
+
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            last = iterator.next();
+                            return last;
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (last == null) {
+                                throw new IllegalStateException();
+                            }
+                            CtxImpl.this.remove(last.getKey());
+                            last = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return snapshot().size();
+                }
+            };
+        }
+    }
+
     @Override
     public String toString() {
+        Map<String, Object> keyed = keyedSnapshot();
         return "CtxImpl{" +
                 "parent=" + parentCtx +
+                ", keys=" + keyed +
                 ", source=" + source +
                 '}';
     }
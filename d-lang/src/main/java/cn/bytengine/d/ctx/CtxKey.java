@@ -0,0 +1,143 @@
+package cn.bytengine.d.ctx;
+
+import cn.bytengine.d.lang.AssertTools;
+import cn.bytengine.d.lang.BasicType;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 类型化上下文参数Key
+ * <p>
+ * Key按名称全局注册一次并分配连续的槽位下标，{@link CtxImpl}将已注册Key的参数值存放在按槽位下标访问的数组中，
+ * 读取时无需对字符串Key求哈希；按同名字符串访问参数时同样路由到该槽位，两种访问方式结果一致。
+ * Key应声明为常量复用，注册数量即槽位数组长度，不应按动态名称注册。
+ * </p>
+ *
+ * @param <T> 参数值类型
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class CtxKey<T> {
+    private static final Map<String, CtxKey<?>> REGISTERED_KEYS = new ConcurrentHashMap<>(64);
+    private static volatile CtxKey<?>[] keysBySlot = new CtxKey<?>[0];
+
+    private final String name;
+    private final Class<T> type;
+    private final int slot;
+
+    private CtxKey(String name, Class<T> type, int slot) {
+        this.name = name;
+        this.type = type;
+        this.slot = slot;
+    }
+
+    /**
+     * 注册上下文参数Key，同名Key已注册时返回已有Key
+     *
+     * @param name 参数名
+     * @param type 参数值类型，基本类型按包装类型处理
+     * @param <T>  参数值类型
+     * @return 上下文参数Key
+     * @throws IllegalArgumentException 同名Key已按其他类型注册时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CtxKey<T> of(String name, Class<T> type) {
+        AssertTools.notNull(name, "The key is null.");
+        AssertTools.notNull(type, "type must not be null");
+        Class<T> wrappedType = (Class<T>) BasicType.wrap(type);
+        CtxKey<?> key = REGISTERED_KEYS.get(name);
+        if (key == null) {
+            synchronized (REGISTERED_KEYS) {
+                key = REGISTERED_KEYS.get(name);
+                if (key == null) {
+                    CtxKey<?>[] current = keysBySlot;
+                    key = new CtxKey<>(name, wrappedType, current.length);
+                    CtxKey<?>[] updated = Arrays.copyOf(current, current.length + 1);
+                    updated[key.slot] = key;
+                    keysBySlot = updated;
+                    REGISTERED_KEYS.put(name, key);
+                }
+            }
+        }
+        AssertTools.isTrue(key.type == wrappedType, "The key {} is registered with type {}", name, key.type.getName());
+        return (CtxKey<T>) key;
+    }
+
+    /**
+     * 查找已注册的上下文参数Key
+     *
+     * @param name 参数名
+     * @return 上下文参数Key，未注册时返回null
+     */
+    public static CtxKey<?> find(String name) {
+        return REGISTERED_KEYS.get(name);
+    }
+
+    /**
+     * 获取已注册Key数量，即槽位数组所需长度
+     *
+     * @return 已注册Key数量
+     */
+    public static int slotCount() {
+        return keysBySlot.length;
+    }
+
+    /**
+     * 根据槽位下标获取已注册Key
+     *
+     * @param slot 槽位下标
+     * @return 上下文参数Key
+     */
+    static CtxKey<?> bySlot(int slot) {
+        return keysBySlot[slot];
+    }
+
+    /**
+     * 获取参数名
+     *
+     * @return 参数名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取参数值类型
+     *
+     * @return 参数值类型
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * 获取槽位下标
+     *
+     * @return 槽位下标
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * 将参数值转为Key声明类型
+     *
+     * @param value 参数值
+     * @return 参数值
+     * @throws ClassCastException 参数值类型不一致时抛出
+     */
+    public T cast(Object value) {
+        return type.cast(value);
+    }
+
+    @Override
+    public String toString() {
+        return "CtxKey{" +
+                "name='" + name + '\'' +
+                ", type=" + type.getName() +
+                ", slot=" + slot +
+                '}';
+    }
+}
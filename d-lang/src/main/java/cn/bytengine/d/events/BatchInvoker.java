@@ -0,0 +1,34 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 批量调用器
+ * <p>
+ * 以{@link InvokerEventBus#pubBatch(String, List)}或{@link InvokerEventBus#pubAll(String, java.util.Iterator)}发布事件时，
+ * 未经注册选项包装的批量调用器一次接收整批参数列表；单个事件发布时参数列表只包含一个元素。
+ * 批量调用异常时，交给事件异常处理器的参数为整批参数列表转换的数组（每个元素为一次事件的参数数组）。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface BatchInvoker extends Invoker {
+    /**
+     * 批量调用
+     *
+     * @param argsList 参数列表，每个元素为一次事件的参数数组
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    Object invokeBatch(List<Object[]> argsList) throws Throwable;
+
+    @Override
+    default Object invoke(Object[] args) throws Throwable {
+        return invokeBatch(Collections.singletonList(args));
+    }
+}
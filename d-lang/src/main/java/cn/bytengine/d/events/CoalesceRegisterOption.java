@@ -0,0 +1,103 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 按键合并调用选项
+ * <p>
+ * 时间窗口内相同键只保留最后一次参数，窗口结束时在定时线程中批量调用；每个窗口只登记一次定时任务
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see EventTimer
+ */
+public class CoalesceRegisterOption implements RegisterOption {
+    private static final Object NULL_KEY = new Object();
+
+    private final Function<Object[], Object> keyExtractor;
+    private final long intervalNanos;
+    private final EventTimer timer;
+
+    /**
+     * 构造器
+     *
+     * @param keyExtractor 合并键提取函数
+     * @param interval     合并时间窗口
+     * @param timer        定时器
+     */
+    public CoalesceRegisterOption(Function<Object[], Object> keyExtractor, Duration interval, EventTimer timer) {
+        AssertTools.notNull(keyExtractor, "keyExtractor must not be null");
+        AssertTools.notNull(interval, "interval must not be null");
+        AssertTools.notNull(timer, "EventTimer must not be null");
+        this.keyExtractor = keyExtractor;
+        this.intervalNanos = interval.toNanos();
+        this.timer = timer;
+    }
+
+    /**
+     * 使用共享定时器，以指定位置参数作为合并键
+     *
+     * @param argIndex 参数位置
+     * @param interval 合并时间窗口
+     * @return 注册选项
+     */
+    public static CoalesceRegisterOption byArg(int argIndex, Duration interval) {
+        return new CoalesceRegisterOption(args -> args.length > argIndex ? args[argIndex] : null, interval, EventTimer.shared());
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        return new Coalescer(invoker);
+    }
+
+    private final class Coalescer implements Invoker {
+        private final Invoker delegate;
+        private final Map<Object, Object[]> pending = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Coalescer(Invoker delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object[] args) {
+            Object key = keyExtractor.apply(args);
+            pending.put(key == null ? NULL_KEY : key, args);
+            if (scheduled.compareAndSet(false, true)) {
+                timer.schedule(this::flush, intervalNanos);
+            }
+            return null;
+        }
+
+        private void flush() {
+            Throwable error = null;
+            for (Object key : pending.keySet()) {
+                Object[] args = pending.remove(key);
+                if (args == null) {
+                    continue;
+                }
+                try {
+                    delegate.invoke(args);
+                } catch (Throwable e) {
+                    error = e;
+                }
+            }
+            scheduled.set(false);
+            if (!pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+                timer.schedule(this::flush, intervalNanos);
+            }
+            if (error != null) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, error);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.events.internal.NothingEventExceptionHandler;
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 防抖调用选项
+ * <p>
+ * 连续事件间隔小于等待时间时视为同一批：leading在一批开始时立即调用，trailing在一批结束（静默等待时间）后以最后一次参数调用；
+ * 两者同时开启时，trailing仅在leading之后还有新事件时调用。每批事件只登记一次定时任务。
+ * </p>
+ * <p>
+ * trailing调用在定时器线程执行，异常交由注册选项的事件异常处理器处理，默认与未指定处理器的发布一致不做处理。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see EventTimer
+ */
+public class DebounceRegisterOption implements RegisterOption {
+    private final long waitNanos;
+    private final boolean leading;
+    private final boolean trailing;
+    private final EventTimer timer;
+    private final EventExceptionHandler eventExceptionHandler;
+
+    /**
+     * 构造器
+     *
+     * @param wait     静默等待时间
+     * @param leading  是否在一批开始时调用
+     * @param trailing 是否在一批结束后调用
+     * @param timer    定时器
+     */
+    public DebounceRegisterOption(Duration wait, boolean leading, boolean trailing, EventTimer timer) {
+        this(wait, leading, trailing, timer, NothingEventExceptionHandler.INSTANCE);
+    }
+
+    /**
+     * 构造器
+     *
+     * @param wait                  静默等待时间
+     * @param leading               是否在一批开始时调用
+     * @param trailing              是否在一批结束后调用
+     * @param timer                 定时器
+     * @param eventExceptionHandler trailing调用的事件异常处理器
+     */
+    public DebounceRegisterOption(Duration wait, boolean leading, boolean trailing, EventTimer timer,
+                                  EventExceptionHandler eventExceptionHandler) {
+        AssertTools.notNull(wait, "wait must not be null");
+        AssertTools.isTrue(leading || trailing, "leading or trailing must be enabled");
+        AssertTools.notNull(timer, "EventTimer must not be null");
+        AssertTools.notNull(eventExceptionHandler, "EventExceptionHandler must not be null");
+        this.waitNanos = wait.toNanos();
+        this.leading = leading;
+        this.trailing = trailing;
+        this.timer = timer;
+        this.eventExceptionHandler = eventExceptionHandler;
+    }
+
+    /**
+     * 一批事件结束后以最后一次参数调用
+     *
+     * @param wait 静默等待时间
+     * @return 注册选项
+     */
+    public static DebounceRegisterOption trailing(Duration wait) {
+        return new DebounceRegisterOption(wait, false, true, EventTimer.shared());
+    }
+
+    /**
+     * 一批事件开始时立即调用，忽略该批其余事件
+     *
+     * @param wait 静默等待时间
+     * @return 注册选项
+     */
+    public static DebounceRegisterOption leading(Duration wait) {
+        return new DebounceRegisterOption(wait, true, false, EventTimer.shared());
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        return new Debouncer(eventName, invoker);
+    }
+
+    private final class Debouncer implements Invoker {
+        private final String eventName;
+        private final Invoker delegate;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicReference<Object[]> pendingArgs = new AtomicReference<>();
+        private volatile long lastNanos;
+
+        Debouncer(String eventName, Invoker delegate) {
+            this.eventName = eventName;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object[] args) throws Throwable {
+            lastNanos = System.nanoTime();
+            if (scheduled.compareAndSet(false, true)) {
+                timer.schedule(this::check, waitNanos);
+                if (leading) {
+                    return delegate.invoke(args);
+                }
+            }
+            if (trailing) {
+                pendingArgs.set(args);
+                // 定时检查可能在登记参数前已结束本批，补登记定时任务
+                if (!scheduled.get() && scheduled.compareAndSet(false, true)) {
+                    timer.schedule(this::check, waitNanos);
+                }
+            }
+            return null;
+        }
+
+        private void check() {
+            long remaining = lastNanos + waitNanos - System.nanoTime();
+            if (remaining > 0) {
+                timer.schedule(this::check, remaining);
+                return;
+            }
+            // 先取参数再结束本批：结束后发布的事件开启新批次，参数留给新批次的定时检查
+            Object[] args = pendingArgs.getAndSet(null);
+            scheduled.set(false);
+            if (pendingArgs.get() != null && scheduled.compareAndSet(false, true)) {
+                timer.schedule(this::check, waitNanos);
+            }
+            if (args != null) {
+                try {
+                    delegate.invoke(args);
+                } catch (Throwable e) {
+                    eventExceptionHandler.handle(e, eventName, delegate, args);
+                }
+            }
+        }
+    }
+}
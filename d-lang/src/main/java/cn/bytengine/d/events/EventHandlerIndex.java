@@ -0,0 +1,44 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.events.internal.AbstractInvokerEventBus;
+
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+/**
+ * 事件处理器索引，由{@link cn.bytengine.d.events.annotations.EventHandler}注解处理器生成，
+ * 使用直接方法调用的调用器注册事件，避免注册时的反射和序列化Lambda解析
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see cn.bytengine.d.events.annotations.EventHandler
+ */
+public interface EventHandlerIndex {
+    /**
+     * 基于SPI加载所有事件处理器索引并注册到事件总线，实例方法的目标对象使用无参构造器创建
+     *
+     * @param eventBus 事件总线
+     */
+    static void load(AbstractInvokerEventBus eventBus) {
+        load(eventBus, null);
+    }
+
+    /**
+     * 基于SPI加载所有事件处理器索引并注册到事件总线
+     *
+     * @param eventBus         事件总线
+     * @param instanceProvider 实例方法目标对象提供函数，为null时使用无参构造器创建
+     */
+    static void load(AbstractInvokerEventBus eventBus, Function<Class<?>, Object> instanceProvider) {
+        ServiceLoader<EventHandlerIndex> serviceLoader = ServiceLoader.load(EventHandlerIndex.class);
+        serviceLoader.iterator().forEachRemaining(index -> index.register(eventBus, instanceProvider));
+    }
+
+    /**
+     * 执行事件处理器注册
+     *
+     * @param eventBus         事件总线
+     * @param instanceProvider 实例方法目标对象提供函数，可能为null
+     */
+    void register(AbstractInvokerEventBus eventBus, Function<Class<?>, Object> instanceProvider);
+}
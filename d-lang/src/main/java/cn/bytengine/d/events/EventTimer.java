@@ -0,0 +1,73 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 事件注册选项共享定时器
+ * <p>
+ * 防抖、合并等注册选项只在一批事件开始时登记一次延时任务，而不是每个事件一个任务；
+ * 默认共享单个守护线程。延时任务在定时线程中执行，耗时调用器应配合{@link AsyncRegisterOption}使用。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see DebounceRegisterOption
+ * @see CoalesceRegisterOption
+ */
+public class EventTimer {
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 指定调度线程池创建定时器
+     *
+     * @param scheduler 调度线程池
+     */
+    public EventTimer(ScheduledExecutorService scheduler) {
+        AssertTools.notNull(scheduler, "ScheduledExecutorService must not be null");
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 获取共享定时器
+     *
+     * @return 共享定时器
+     */
+    public static EventTimer shared() {
+        return Holder.SHARED;
+    }
+
+    /**
+     * 延时执行任务，任务异常交由执行线程的UncaughtExceptionHandler处理
+     *
+     * @param task       任务
+     * @param delayNanos 延时纳秒数
+     */
+    public void schedule(Runnable task, long delayNanos) {
+        scheduler.schedule(() -> {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, e);
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Holder {
+        private static final EventTimer SHARED;
+
+        static {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "d-event-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            SHARED = new EventTimer(scheduler);
+        }
+    }
+}
@@ -2,6 +2,10 @@ package cn.bytengine.d.events;
 
 import cn.bytengine.d.events.internal.*;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * 事件总线构建服务类
  *
@@ -30,6 +34,70 @@ public abstract class Events {
         return new DefaultInvokerEventBusBuilder();
     }
 
+    /**
+     * 构建基于快照路由和快照分发器的DefaultInvokerEventBus构建器
+     *
+     * @return DefaultInvokerEventBusBuilder
+     * @see SnapshotEventRouter
+     * @see SnapshotEventInvokerDispatcher
+     */
+    public static DefaultInvokerEventBusBuilder snapshot() {
+        return new DefaultInvokerEventBusBuilder()
+                .setEventRouter(new SnapshotEventRouter())
+                .setDispatcher(new SnapshotEventInvokerDispatcher());
+    }
+
+    /**
+     * 构建基于通配符路由和快照分发器的DefaultInvokerEventBus构建器，支持{@code order.*}、{@code order.**.failed}形式订阅
+     *
+     * @return DefaultInvokerEventBusBuilder
+     * @see WildcardEventRouter
+     */
+    public static DefaultInvokerEventBusBuilder wildcard() {
+        return new DefaultInvokerEventBusBuilder()
+                .setEventRouter(new WildcardEventRouter())
+                .setDispatcher(new SnapshotEventInvokerDispatcher());
+    }
+
+    /**
+     * 构建按优先级调用、支持中止的DefaultInvokerEventBus构建器
+     *
+     * @return DefaultInvokerEventBusBuilder
+     * @see PriorityRegisterOption
+     * @see InvokerEventBus#STOP
+     */
+    public static DefaultInvokerEventBusBuilder priority() {
+        return new DefaultInvokerEventBusBuilder()
+                .setEventRouter(new PriorityEventRouter())
+                .setDispatcher(new VetoableEventInvokerDispatcher());
+    }
+
+    /**
+     * 构建基于环形缓冲区异步分发的DefaultInvokerEventBus构建器
+     *
+     * @param dispatcherBuilder 环形缓冲区分发器构建器
+     * @return DefaultInvokerEventBusBuilder
+     * @see RingBufferEventInvokerDispatcher
+     */
+    public static DefaultInvokerEventBusBuilder ringBuffer(RingBufferEventInvokerDispatcher.Builder dispatcherBuilder) {
+        return new DefaultInvokerEventBusBuilder()
+                .setEventRouter(new SnapshotEventRouter())
+                .setDispatcher(dispatcherBuilder.build());
+    }
+
+    /**
+     * 构建基于分片单写事件循环异步分发的DefaultInvokerEventBus构建器
+     *
+     * @param dispatcherBuilder 分片事件循环分发器构建器
+     * @return DefaultInvokerEventBusBuilder
+     * @see ShardedEventInvokerDispatcher
+     */
+    public static DefaultInvokerEventBusBuilder sharded(ShardedEventInvokerDispatcher.Builder dispatcherBuilder) {
+        return new DefaultInvokerEventBusBuilder()
+                .setEventRouter(new SnapshotEventRouter())
+                .setDispatcher(dispatcherBuilder.build());
+    }
+
     /**
      * 获取全局EventBus
      *
@@ -48,6 +116,8 @@ public abstract class Events {
     public static final class DefaultInvokerEventBusBuilder {
         private EventRouter eventRouter = new DefaultEventRouter();
         private EventInvokerDispatcher dispatcher = new DefaultEventInvokerDispatcher();
+        private Executor requestExecutor = ForkJoinPool.commonPool();
+        private Duration requestTimeout = DefaultInvokerEventBus.DEFAULT_REQUEST_TIMEOUT;
 
         /**
          * 修改默认EventRouter策略
@@ -71,13 +141,35 @@ public abstract class Events {
             return this;
         }
 
+        /**
+         * 修改请求事件并行调用执行器，默认为{@link ForkJoinPool#commonPool()}
+         *
+         * @param requestExecutor 请求事件执行器
+         * @return 当前构建器
+         */
+        public DefaultInvokerEventBusBuilder setRequestExecutor(Executor requestExecutor) {
+            this.requestExecutor = requestExecutor;
+            return this;
+        }
+
+        /**
+         * 修改请求事件默认超时时间
+         *
+         * @param requestTimeout 超时时间
+         * @return 当前构建器
+         */
+        public DefaultInvokerEventBusBuilder setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
         /**
          * 根据指定策略创建默认InvokerEventBus事件总线
          *
          * @return 事件总线
          */
         public InvokerEventBus build() {
-            return new DefaultInvokerEventBus(eventRouter, dispatcher);
+            return new DefaultInvokerEventBus(eventRouter, dispatcher, requestExecutor, requestTimeout);
         }
     }
 }
@@ -4,6 +4,12 @@ import cn.bytengine.d.events.internal.NothingEventExceptionHandler;
 import cn.bytengine.d.fn.Consumers;
 import cn.bytengine.d.fn.invoker.Invoker;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Invoker事件总线
  *
@@ -11,6 +17,21 @@ import cn.bytengine.d.fn.invoker.Invoker;
  * @version 1.0
  */
 public interface InvokerEventBus {
+    /**
+     * 流式批量发布时单批事件数
+     */
+    int PUB_ALL_BATCH_SIZE = 256;
+
+    /**
+     * 中止信号，调用器返回该值时{@link cn.bytengine.d.events.internal.VetoableEventInvokerDispatcher}不再调用后续调用器
+     */
+    Object STOP = new Object() {
+        @Override
+        public String toString() {
+            return "STOP";
+        }
+    };
+
     /**
      * 发布事件，无异常处理（忽略异常）
      *
@@ -30,6 +51,232 @@ public interface InvokerEventBus {
      */
     void pub(String eventName, EventExceptionHandler eventExceptionHandler, Object... args);
 
+    /**
+     * 发布无参数事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     */
+    default void pub0(String eventName) {
+        pub0(eventName, NothingEventExceptionHandler.INSTANCE);
+    }
+
+    /**
+     * 发布无参数事件，分发器支持时不分配参数数组
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     */
+    default void pub0(String eventName, EventExceptionHandler eventExceptionHandler) {
+        pub(eventName, eventExceptionHandler, Invoker.EMPTY_ARGS);
+    }
+
+    /**
+     * 发布1个参数事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param arg1      参数1
+     */
+    default void pub1(String eventName, Object arg1) {
+        pub1(eventName, NothingEventExceptionHandler.INSTANCE, arg1);
+    }
+
+    /**
+     * 发布1个参数事件，分发器支持时不分配参数数组
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param arg1                  参数1
+     */
+    default void pub1(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1) {
+        pub(eventName, eventExceptionHandler, new Object[]{arg1});
+    }
+
+    /**
+     * 发布2个参数事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param arg1      参数1
+     * @param arg2      参数2
+     */
+    default void pub2(String eventName, Object arg1, Object arg2) {
+        pub2(eventName, NothingEventExceptionHandler.INSTANCE, arg1, arg2);
+    }
+
+    /**
+     * 发布2个参数事件，分发器支持时不分配参数数组
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     */
+    default void pub2(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2) {
+        pub(eventName, eventExceptionHandler, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * 发布3个参数事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param arg1      参数1
+     * @param arg2      参数2
+     * @param arg3      参数3
+     */
+    default void pub3(String eventName, Object arg1, Object arg2, Object arg3) {
+        pub3(eventName, NothingEventExceptionHandler.INSTANCE, arg1, arg2, arg3);
+    }
+
+    /**
+     * 发布3个参数事件，分发器支持时不分配参数数组
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     * @param arg3                  参数3
+     */
+    default void pub3(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2, Object arg3) {
+        pub(eventName, eventExceptionHandler, new Object[]{arg1, arg2, arg3});
+    }
+
+    /**
+     * 发布4个参数事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param arg1      参数1
+     * @param arg2      参数2
+     * @param arg3      参数3
+     * @param arg4      参数4
+     */
+    default void pub4(String eventName, Object arg1, Object arg2, Object arg3, Object arg4) {
+        pub4(eventName, NothingEventExceptionHandler.INSTANCE, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * 发布4个参数事件，分发器支持时不分配参数数组
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     * @param arg3                  参数3
+     * @param arg4                  参数4
+     */
+    default void pub4(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2, Object arg3, Object arg4) {
+        pub(eventName, eventExceptionHandler, new Object[]{arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * 批量发布同名事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param argsList  参数列表，每个元素为一次事件的参数数组
+     */
+    default void pubBatch(String eventName, List<Object[]> argsList) {
+        pubBatch(eventName, NothingEventExceptionHandler.INSTANCE, argsList);
+    }
+
+    /**
+     * 批量发布同名事件，只匹配一次调用器并将整批交给分发器；
+     * 异步分发器以整批为单位投递，{@link BatchInvoker}一次接收整批参数。
+     * 分发器可能异步持有参数列表，发布后不应再修改
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param argsList              参数列表，每个元素为一次事件的参数数组
+     */
+    void pubBatch(String eventName, EventExceptionHandler eventExceptionHandler, List<Object[]> argsList);
+
+    /**
+     * 流式批量发布同名事件，无异常处理（忽略异常）
+     *
+     * @param eventName 事件名
+     * @param argsIterator 参数迭代器，每个元素为一次事件的参数数组
+     */
+    default void pubAll(String eventName, Iterator<Object[]> argsIterator) {
+        pubAll(eventName, NothingEventExceptionHandler.INSTANCE, argsIterator);
+    }
+
+    /**
+     * 流式批量发布同名事件，按{@link #PUB_ALL_BATCH_SIZE}分批调用{@link #pubBatch(String, EventExceptionHandler, List)}
+     *
+     * @param eventName             事件名
+     * @param eventExceptionHandler 异常事件处理器
+     * @param argsIterator          参数迭代器，每个元素为一次事件的参数数组
+     */
+    default void pubAll(String eventName, EventExceptionHandler eventExceptionHandler, Iterator<Object[]> argsIterator) {
+        while (argsIterator.hasNext()) {
+            List<Object[]> batch = new ArrayList<>(PUB_ALL_BATCH_SIZE);
+            while (batch.size() < PUB_ALL_BATCH_SIZE && argsIterator.hasNext()) {
+                batch.add(argsIterator.next());
+            }
+            pubBatch(eventName, eventExceptionHandler, batch);
+        }
+    }
+
+    /**
+     * 按事件对象运行时类型发布事件，无异常处理（忽略异常）
+     *
+     * @param event 事件对象
+     * @see #pubEvent(Object, EventExceptionHandler)
+     */
+    default void pubEvent(Object event) {
+        pubEvent(event, NothingEventExceptionHandler.INSTANCE);
+    }
+
+    /**
+     * 按事件对象运行时类型发布事件，事件对象作为唯一参数交给其类型、所有父类及接口上注册的调用器
+     *
+     * @param event                 事件对象
+     * @param eventExceptionHandler 异常事件处理器
+     * @see #register(Class, Consumers.Consumer1, RegisterOption...)
+     */
+    void pubEvent(Object event, EventExceptionHandler eventExceptionHandler);
+
+    /**
+     * 请求事件，使用默认超时时间并行调用全部调用器，按注册顺序收集返回值；
+     * 消费者注册的调用器返回null，需要返回值时使用{@link #registerInvoker(String, Invoker, RegisterOption...)}注册
+     *
+     * @param eventName 事件名
+     * @param args      参数列表
+     * @return 全部调用器返回值，任一调用器异常或超时时异常完成
+     */
+    default CompletableFuture<List<Object>> request(String eventName, Object... args) {
+        return requestWithTimeout(eventName, null, args);
+    }
+
+    /**
+     * 请求事件，并行调用全部调用器，按注册顺序收集返回值
+     *
+     * @param eventName 事件名
+     * @param timeout   超时时间，为null时使用事件总线默认超时时间
+     * @param args      参数列表
+     * @return 全部调用器返回值，任一调用器异常或超时时异常完成，超时时取消未完成的调用
+     */
+    CompletableFuture<List<Object>> requestWithTimeout(String eventName, Duration timeout, Object... args);
+
+    /**
+     * 请求事件，使用默认超时时间并行调用全部调用器，取最先成功返回的非null结果
+     *
+     * @param eventName 事件名
+     * @param args      参数列表
+     * @return 最先成功返回的非null结果，全部调用器返回null时为null；无调用器、全部调用器异常或超时时异常完成
+     */
+    default CompletableFuture<Object> requestFirst(String eventName, Object... args) {
+        return requestFirstWithTimeout(eventName, null, args);
+    }
+
+    /**
+     * 请求事件，并行调用全部调用器，取最先成功返回的非null结果
+     *
+     * @param eventName 事件名
+     * @param timeout   超时时间，为null时使用事件总线默认超时时间
+     * @param args      参数列表
+     * @return 最先成功返回的非null结果，全部调用器返回null时为null；
+     * 无调用器、调用器均未返回非null结果且存在异常或超时时异常完成，超时时取消未完成的调用
+     */
+    CompletableFuture<Object> requestFirstWithTimeout(String eventName, Duration timeout, Object... args);
+
     /**
      * 注销指定事件监听
      *
@@ -38,6 +285,62 @@ public interface InvokerEventBus {
      */
     void unregister(String eventName, Invoker invoker);
 
+    /**
+     * 注销指定事件类型监听
+     *
+     * @param eventType 事件类型
+     * @param invoker   调用器
+     */
+    default void unregister(Class<?> eventType, Invoker invoker) {
+        unregister(typeEventName(eventType), invoker);
+    }
+
+    /**
+     * 注册调用器监听，调用器返回值作为{@link #request(String, Object...)}的结果；
+     * 返回{@link #STOP}时中止后续调用器，{@link BatchInvoker}以批量发布时一次接收整批参数。
+     * 与register的消费者重载区分命名，避免隐式类型lambda重载歧义
+     *
+     * @param eventName 事件名称
+     * @param invoker   调用器
+     * @param options   注册选项
+     * @return 注册后实现Invoker，Invoker用于注销监听
+     */
+    Invoker registerInvoker(String eventName, Invoker invoker, RegisterOption... options);
+
+    /**
+     * 注册事件类型监听，发布该类型或其子类型事件对象时调用
+     *
+     * @param eventType 事件类型
+     * @param consumer  消费者
+     * @param options   注册选项
+     * @param <T>       事件类型
+     * @return 调用器
+     * @see #pubEvent(Object)
+     */
+    <T> Invoker register(Class<T> eventType, Consumers.Consumer1<? super T> consumer, RegisterOption... options);
+
+    /**
+     * 注册事件类型监听，发布该类型或其子类型事件对象时调用
+     *
+     * @param eventType 事件类型
+     * @param consumer  消费者
+     * @param options   注册选项
+     * @param <T>       事件类型
+     * @return 调用器
+     * @see #pubEvent(Object)
+     */
+    <T> Invoker registerWithThrows(Class<T> eventType, Consumers.Consumer1Throws<? super T> consumer, RegisterOption... options);
+
+    /**
+     * 获取事件类型对应的事件名，类型监听以此事件名注册到路由中
+     *
+     * @param eventType 事件类型
+     * @return 事件名
+     */
+    static String typeEventName(Class<?> eventType) {
+        return eventType.getName();
+    }
+
     /**
      * 注册事件监听
      *
@@ -0,0 +1,213 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按键分区的有序执行器
+ * <p>
+ * 由N条单线程通道组成，相同键的任务总是进入同一通道并按提交顺序执行，不同键的任务在多个通道间并行。
+ * 每条通道使用有界队列，队列满时阻塞提交线程。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see PartitionedRegisterOption
+ * @see cn.bytengine.d.events.internal.PartitionedEventInvokerDispatcher
+ */
+public class PartitionedExecutor {
+    private static final AtomicInteger EXECUTOR_INDEX = new AtomicInteger();
+
+    private final Lane[] lanes;
+    private final int capacity;
+    private volatile boolean running = true;
+
+    /**
+     * 指定通道数和每条通道队列容量创建执行器，使用守护线程
+     *
+     * @param laneCount 通道数
+     * @param capacity  每条通道队列容量
+     */
+    public PartitionedExecutor(int laneCount, int capacity) {
+        this(laneCount, capacity, defaultThreadFactory());
+    }
+
+    /**
+     * 指定通道数、每条通道队列容量和线程工厂创建执行器
+     *
+     * @param laneCount     通道数
+     * @param capacity      每条通道队列容量
+     * @param threadFactory 通道线程工厂
+     */
+    public PartitionedExecutor(int laneCount, int capacity, ThreadFactory threadFactory) {
+        AssertTools.isTrue(laneCount > 0, "laneCount must be positive");
+        AssertTools.isTrue(capacity > 0, "capacity must be positive");
+        AssertTools.notNull(threadFactory, "ThreadFactory must not be null");
+        this.capacity = capacity;
+        this.lanes = new Lane[laneCount];
+        for (int idx = 0; idx < laneCount; idx++) {
+            Lane lane = new Lane(capacity);
+            lanes[idx] = lane;
+            threadFactory.newThread(lane).start();
+        }
+    }
+
+    /**
+     * 按键选择通道并提交任务，通道队列满时阻塞
+     *
+     * @param key  分区键，相同键保证执行顺序
+     * @param task 任务
+     * @throws RejectedExecutionException 执行器已关闭或提交线程被中断
+     */
+    public void execute(Object key, Runnable task) {
+        if (!running) {
+            throw new RejectedExecutionException("PartitionedExecutor has been shut down");
+        }
+        Lane lane = lanes[laneIndex(key)];
+        try {
+            lane.queue.put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+        // 入队期间执行器关闭，通道线程可能已退出；任务仍在队列中时由提交线程移除并拒绝，否则已被通道取走执行
+        if (!running && lane.queue.remove(task)) {
+            throw new RejectedExecutionException("PartitionedExecutor has been shut down");
+        }
+        lane.submitted.increment();
+    }
+
+    /**
+     * 计算分区键对应的通道下标
+     *
+     * @param key 分区键
+     * @return 通道下标
+     */
+    public int laneIndex(Object key) {
+        int hash = Objects.hashCode(key);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * 获取通道数
+     *
+     * @return 通道数
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * 获取每条通道队列容量
+     *
+     * @return 队列容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 获取指定通道当前排队任务数
+     *
+     * @param lane 通道下标
+     * @return 排队任务数
+     */
+    public int getQueueDepth(int lane) {
+        return lanes[lane].queue.size();
+    }
+
+    /**
+     * 获取全部通道当前排队任务数
+     *
+     * @return 各通道排队任务数
+     */
+    public int[] getQueueDepths() {
+        int[] depths = new int[lanes.length];
+        for (int idx = 0; idx < lanes.length; idx++) {
+            depths[idx] = lanes[idx].queue.size();
+        }
+        return depths;
+    }
+
+    /**
+     * 获取指定通道累计提交任务数
+     *
+     * @param lane 通道下标
+     * @return 累计提交任务数
+     */
+    public long getSubmittedCount(int lane) {
+        return lanes[lane].submitted.sum();
+    }
+
+    /**
+     * 获取指定通道累计完成任务数
+     *
+     * @param lane 通道下标
+     * @return 累计完成任务数
+     */
+    public long getCompletedCount(int lane) {
+        return lanes[lane].completed.sum();
+    }
+
+    /**
+     * 停止接收新任务，已排队任务执行完毕后通道线程退出；与关闭并发提交、未被通道取走的任务以{@link RejectedExecutionException}拒绝
+     */
+    public void shutdown() {
+        running = false;
+    }
+
+    private static ThreadFactory defaultThreadFactory() {
+        int executorIndex = EXECUTOR_INDEX.getAndIncrement();
+        AtomicInteger laneIndex = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "d-event-partition-" + executorIndex + "-" + laneIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 单线程通道
+     */
+    private final class Lane implements Runnable {
+        final BlockingQueue<Runnable> queue;
+        final LongAdder submitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+
+        Lane(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void run() {
+            while (running || !queue.isEmpty()) {
+                Runnable task;
+                try {
+                    task = queue.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (task == null) {
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, e);
+                } finally {
+                    completed.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.fn.invoker.InvokerRunnable;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.function.Function;
+
+/**
+ * 按键分区的异步调用选项
+ * <p>
+ * 通过键提取函数从事件参数中取得分区键，相同键的事件在同一通道中按发布顺序执行
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see PartitionedExecutor
+ */
+public class PartitionedRegisterOption implements RegisterOption {
+    private final PartitionedExecutor executor;
+    private final Function<Object[], Object> keyExtractor;
+
+    /**
+     * 构造器
+     *
+     * @param executor     分区执行器
+     * @param keyExtractor 分区键提取函数
+     */
+    public PartitionedRegisterOption(PartitionedExecutor executor, Function<Object[], Object> keyExtractor) {
+        AssertTools.notNull(executor, "PartitionedExecutor must not be null");
+        AssertTools.notNull(keyExtractor, "keyExtractor must not be null");
+        this.executor = executor;
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * 以指定位置参数作为分区键
+     *
+     * @param executor 分区执行器
+     * @param argIndex 参数位置
+     * @return 注册选项
+     */
+    public static PartitionedRegisterOption byArg(PartitionedExecutor executor, int argIndex) {
+        return new PartitionedRegisterOption(executor, args -> args.length > argIndex ? args[argIndex] : null);
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        return args -> {
+            executor.execute(keyExtractor.apply(args), new InvokerRunnable(invoker, args));
+            return null;
+        };
+    }
+}
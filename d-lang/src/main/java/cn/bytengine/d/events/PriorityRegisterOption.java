@@ -0,0 +1,76 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import java.util.Collection;
+
+/**
+ * 调用优先级选项
+ * <p>
+ * 配合{@link cn.bytengine.d.events.internal.PriorityEventRouter}使用，同一事件名下优先级数值越大越先调用，
+ * 相同优先级保持注册顺序；未指定时优先级为{@link #DEFAULT_PRIORITY}
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see InvokerEventBus#STOP
+ */
+public class PriorityRegisterOption implements RegisterOption {
+    /**
+     * 默认优先级
+     */
+    public static final int DEFAULT_PRIORITY = 0;
+
+    private final int priority;
+
+    /**
+     * 构造器
+     *
+     * @param priority 优先级，数值越大越先调用
+     */
+    public PriorityRegisterOption(int priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * 创建优先级选项
+     *
+     * @param priority 优先级，数值越大越先调用
+     * @return 注册选项
+     */
+    public static PriorityRegisterOption of(int priority) {
+        return new PriorityRegisterOption(priority);
+    }
+
+    /**
+     * 获取注册选项中的优先级，存在多个优先级选项时以最后一个为准
+     *
+     * @param options 注册选项集合
+     * @return 优先级
+     */
+    public static int priorityOf(Collection<RegisterOption> options) {
+        int priority = DEFAULT_PRIORITY;
+        if (options != null) {
+            for (RegisterOption option : options) {
+                if (option instanceof PriorityRegisterOption) {
+                    priority = ((PriorityRegisterOption) option).priority;
+                }
+            }
+        }
+        return priority;
+    }
+
+    /**
+     * 获取优先级
+     *
+     * @return 优先级
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        return invoker;
+    }
+}
@@ -0,0 +1,61 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 限流调用选项，每个时间窗口内最多调用指定次数，超出的事件直接丢弃
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class ThrottleRegisterOption implements RegisterOption {
+    private final int permits;
+    private final long intervalNanos;
+
+    /**
+     * 构造器
+     *
+     * @param permits  每个时间窗口最多调用次数
+     * @param interval 时间窗口
+     */
+    public ThrottleRegisterOption(int permits, Duration interval) {
+        AssertTools.isTrue(permits > 0, "permits must be positive");
+        AssertTools.notNull(interval, "interval must not be null");
+        this.permits = permits;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        AtomicReference<Window> current = new AtomicReference<>(new Window(System.nanoTime()));
+        return args -> {
+            long now = System.nanoTime();
+            Window window = current.get();
+            if (now - window.start >= intervalNanos) {
+                Window next = new Window(now);
+                window = current.compareAndSet(window, next) ? next : current.get();
+            }
+            if (window.count.incrementAndGet() <= permits) {
+                return invoker.invoke(args);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * 时间窗口，窗口起始时间与计数一起替换，过期窗口上的计数不会影响新窗口
+     */
+    private static final class Window {
+        private final long start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package cn.bytengine.d.events;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+
+/**
+ * 弱引用订阅选项
+ * <p>
+ * 使用该选项以方法引用或Lambda注册时（如{@code register(name, component::onEvent, WeakRegisterOption.INSTANCE)}），
+ * 事件总线仅弱引用Lambda捕获的对象（方法引用的接收者），不持有Lambda本身；该对象被回收后订阅自动失效，
+ * 并由事件总线在注册、注销以及后台定时清理时批量移除，无需手动注销。Lambda未捕获对象时按普通订阅注册。
+ * 直接以{@link Invoker}注册时，事件总线弱引用调用器本身，调用方需自行强引用该调用器。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see cn.bytengine.d.events.internal.DefaultInvokerEventBus
+ */
+public final class WeakRegisterOption implements RegisterOption {
+    /**
+     * 弱引用订阅选项实例
+     */
+    public static final WeakRegisterOption INSTANCE = new WeakRegisterOption();
+
+    private WeakRegisterOption() {
+    }
+
+    /**
+     * 判断注册选项中是否包含弱引用订阅选项
+     *
+     * @param options 注册选项
+     * @return 是否弱引用订阅
+     */
+    public static boolean isWeak(RegisterOption... options) {
+        if (options != null) {
+            for (RegisterOption option : options) {
+                if (option instanceof WeakRegisterOption) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Invoker option(String eventName, Invoker invoker) {
+        return invoker;
+    }
+}
@@ -0,0 +1,28 @@
+package cn.bytengine.d.events.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 事件处理方法注解，编译期生成{@link cn.bytengine.d.events.EventHandlerIndex}索引，
+ * 运行时通过{@link cn.bytengine.d.events.EventHandlerIndex#load(cn.bytengine.d.events.internal.AbstractInvokerEventBus)}注册到事件总线
+ * <p>
+ * 注解方法所在类须为public（嵌套类须为public static），方法须为public且非abstract；
+ * 实例方法的目标对象由实例提供函数获取，未指定时使用类的public无参构造器创建
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface EventHandler {
+    /**
+     * 事件名，默认使用方法名
+     *
+     * @return 事件名
+     */
+    String name() default "";
+}
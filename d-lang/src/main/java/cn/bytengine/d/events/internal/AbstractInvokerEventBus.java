@@ -6,6 +6,8 @@ import cn.bytengine.d.fn.Consumers;
 import cn.bytengine.d.fn.invoker.Invoker;
 import cn.bytengine.d.fn.invoker.InvokerFactory;
 
+import java.io.Serializable;
+
 /**
  * Invoker EventBus实现
  * <ul>
@@ -30,133 +32,161 @@ public interface AbstractInvokerEventBus extends InvokerEventBus {
      */
     Invoker register(String eventName, Invoker invoker, RegisterOption... options);
 
+    /**
+     * 注册由Lambda创建的调用器监听，实现可据Lambda捕获的对象处理注册选项（如弱引用订阅）
+     *
+     * @param eventName 事件名称
+     * @param lambda    Serializable化的Lambda
+     * @param invoker   由Lambda创建的调用器
+     * @param options   可选项处理
+     * @return 注册的调用器
+     */
+    default Invoker registerLambda(String eventName, Serializable lambda, Invoker invoker, RegisterOption... options) {
+        return register(eventName, invoker, options);
+    }
+
+    @Override
+    default Invoker registerInvoker(String eventName, Invoker invoker, RegisterOption... options) {
+        return register(eventName, invoker, options);
+    }
+
+    @Override
+    default <T> Invoker register(Class<T> eventType, Consumers.Consumer1<? super T> consumer, RegisterOption... options) {
+        return registerLambda(InvokerEventBus.typeEventName(eventType), consumer, InvokerFactory.consumer1Invoker(consumer), options);
+    }
+
+    @Override
+    default <T> Invoker registerWithThrows(Class<T> eventType, Consumers.Consumer1Throws<? super T> consumer, RegisterOption... options) {
+        return registerLambda(InvokerEventBus.typeEventName(eventType), consumer, InvokerFactory.consumer1InvokerWithThrow(consumer), options);
+    }
+
     @Override
     default Invoker register(String eventName, Consumers.Consumer0 consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default Invoker registerWithThrows(String eventName, Consumers.Consumer0Throws consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1> Invoker register(String eventName, Consumers.Consumer1<T1> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1> Invoker registerWithThrows(String eventName, Consumers.Consumer1Throws<T1> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2> Invoker register(String eventName, Consumers.Consumer2<T1, T2> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2> Invoker registerWithThrows(String eventName, Consumers.Consumer2Throws<T1, T2> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3> Invoker register(String eventName, Consumers.Consumer3<T1, T2, T3> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3> Invoker registerWithThrows(String eventName, Consumers.Consumer3Throws<T1, T2, T3> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4> Invoker register(String eventName, Consumers.Consumer4<T1, T2, T3, T4> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4> Invoker registerWithThrows(String eventName, Consumers.Consumer4Throws<T1, T2, T3, T4> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5> Invoker register(String eventName, Consumers.Consumer5<T1, T2, T3, T4, T5> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5> Invoker registerWithThrows(String eventName, Consumers.Consumer5Throws<T1, T2, T3, T4, T5> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6> Invoker register(String eventName, Consumers.Consumer6<T1, T2, T3, T4, T5, T6> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6> Invoker registerWithThrows(String eventName, Consumers.Consumer6Throws<T1, T2, T3, T4, T5, T6> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7> Invoker register(String eventName, Consumers.Consumer7<T1, T2, T3, T4, T5, T6, T7> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7> Invoker registerWithThrows(String eventName, Consumers.Consumer7Throws<T1, T2, T3, T4, T5, T6, T7> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8> Invoker register(String eventName, Consumers.Consumer8<T1, T2, T3, T4, T5, T6, T7, T8> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8> Invoker registerWithThrows(String eventName, Consumers.Consumer8Throws<T1, T2, T3, T4, T5, T6, T7, T8> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9> Invoker register(String eventName, Consumers.Consumer9<T1, T2, T3, T4, T5, T6, T7, T8, T9> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9> Invoker registerWithThrows(String eventName, Consumers.Consumer9Throws<T1, T2, T3, T4, T5, T6, T7, T8, T9> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA> Invoker register(String eventName, Consumers.ConsumerA<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA> Invoker registerWithThrows(String eventName, Consumers.ConsumerAThrows<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB> Invoker register(String eventName, Consumers.ConsumerB<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB> Invoker registerWithThrows(String eventName, Consumers.ConsumerBThrows<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB, TC> Invoker register(String eventName, Consumers.ConsumerC<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB, TC> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 
     @Override
     default <T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB, TC> Invoker registerWithThrows(String eventName, Consumers.ConsumerCThrows<T1, T2, T3, T4, T5, T6, T7, T8, T9, TA, TB, TC> consumer, RegisterOption... options) {
-        return register(eventName, InvokerFactory.createInvokerFromSerializable(consumer), options);
+        return registerLambda(eventName, consumer, InvokerFactory.createInvokerFromSerializable(consumer), options);
     }
 }
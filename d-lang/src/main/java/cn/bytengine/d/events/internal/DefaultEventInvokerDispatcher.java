@@ -1,11 +1,9 @@
 package cn.bytengine.d.events.internal;
 
+import cn.bytengine.d.events.BatchInvoker;
 import cn.bytengine.d.events.EventExceptionHandler;
-import cn.bytengine.d.events.RegisterOption;
 import cn.bytengine.d.fn.invoker.Invoker;
-import cn.bytengine.d.lang.CollectionTools;
 
-import java.util.Collection;
 import java.util.List;
 
 /**
@@ -45,18 +43,55 @@ public class DefaultEventInvokerDispatcher implements EventInvokerDispatcher {
                                               String eventName,
                                               EventExceptionHandler eventExceptionHandler,
                                               Object[] args) {
-        Collection<RegisterOption> options = invokerRegistration.getRegisterOptions();
-        Invoker invoker = invokerRegistration.getInvoker();
-        Invoker tempInvoker = invoker;
         try {
-            if (CollectionTools.isNotEmpty(options)) {
-                for (RegisterOption option : options) {
-                    tempInvoker = option.option(eventName, tempInvoker);
-                }
-            }
-            tempInvoker.invoke(args);
+            invokerRegistration.getComposedInvoker(eventName).invoke(args);
         } catch (Throwable ex) {
-            eventExceptionHandler.handle(ex, eventName, invoker, args);
+            eventExceptionHandler.handle(ex, eventName, invokerRegistration.getInvoker(), args);
+        }
+    }
+
+    /**
+     * 批量分发，逐个调用器处理整批事件；{@link BatchInvoker}一次接收整批参数
+     */
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        for (InvokerRegistration invokerRegistration : invokerRegistrations) {
+            processBatch(invokerRegistration.getComposedInvoker(eventName), invokerRegistration.getInvoker(),
+                    eventName, eventExceptionHandler, argsList);
+        }
+    }
+
+    /**
+     * 使用单个调用器处理整批事件
+     *
+     * @param composed              应用注册选项后的调用器
+     * @param invoker               原始调用器，用于异常通知
+     * @param eventName             事件名称
+     * @param eventExceptionHandler 事件通知失败回调
+     * @param argsList              参数列表
+     */
+    protected void processBatch(Invoker composed,
+                                Invoker invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler,
+                                List<Object[]> argsList) {
+        if (composed instanceof BatchInvoker) {
+            try {
+                ((BatchInvoker) composed).invokeBatch(argsList);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invoker, argsList.toArray());
+            }
+            return;
+        }
+        for (Object[] args : argsList) {
+            try {
+                composed.invoke(args);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invoker, args);
+            }
         }
     }
 }
@@ -1,14 +1,38 @@
 package cn.bytengine.d.events.internal;
 
+import cn.bytengine.d.collection.WeakConcurrentMap;
 import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.EventTimer;
+import cn.bytengine.d.events.InvokerEventBus;
 import cn.bytengine.d.events.RegisterOption;
+import cn.bytengine.d.events.WeakRegisterOption;
 import cn.bytengine.d.fn.invoker.Invoker;
 import cn.bytengine.d.lang.AssertTools;
 
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 默认的调用器事件总线实现
@@ -24,9 +48,32 @@ import java.util.Objects;
  * @version 1.0
  */
 public class DefaultInvokerEventBus implements AbstractInvokerEventBus {
+    /**
+     * 请求事件默认超时时间
+     */
+    public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    /**
+     * 弱引用订阅后台清理间隔
+     */
+    private static final long WEAK_PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final EventRouter eventRouter;
     private final EventInvokerDispatcher dispatcher;
     private final Map<EventInvokerKey, InvokerRegistration> eventInvokerRegistrationMap = new HashMap<>();
+    private final Executor requestExecutor;
+    private final Duration requestTimeout;
+    private final ClassValue<TypeDispatch> typeDispatchCache = new ClassValue<TypeDispatch>() {
+        @Override
+        protected TypeDispatch computeValue(Class<?> type) {
+            return new TypeDispatch(type);
+        }
+    };
+    private final AtomicInteger routeVersion = new AtomicInteger();
+    /**
+     * 弱引用订阅，按弱引用的目标对象索引，值为订阅注册信息与事件名映射
+     */
+    private final WeakConcurrentMap<Object, Map<InvokerRegistration, String>> weakRegistrationMap = new WeakConcurrentMap<>();
+    private final AtomicBoolean weakPurgeScheduled = new AtomicBoolean();
 
 
     /**
@@ -37,10 +84,33 @@ public class DefaultInvokerEventBus implements AbstractInvokerEventBus {
      */
     public DefaultInvokerEventBus(EventRouter eventRouter,
                                   EventInvokerDispatcher dispatcher) {
+        this(eventRouter, dispatcher, ForkJoinPool.commonPool(), DEFAULT_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * 指定路由策略、分发器以及请求事件执行器和默认超时时间的调用器事件总线
+     *
+     * @param eventRouter     事件路由策略
+     * @param dispatcher      事件分发器
+     * @param requestExecutor 请求事件并行调用执行器
+     * @param requestTimeout  请求事件默认超时时间
+     */
+    public DefaultInvokerEventBus(EventRouter eventRouter,
+                                  EventInvokerDispatcher dispatcher,
+                                  Executor requestExecutor,
+                                  Duration requestTimeout) {
         AssertTools.notNull(eventRouter, "EventRouter must not be null");
         AssertTools.notNull(dispatcher, "EventInvokerDispatcher must not be null");
+        AssertTools.notNull(requestExecutor, "requestExecutor must not be null");
+        AssertTools.notNull(requestTimeout, "requestTimeout must not be null");
         this.eventRouter = eventRouter;
         this.dispatcher = dispatcher;
+        this.requestExecutor = requestExecutor;
+        this.requestTimeout = requestTimeout;
+        this.weakRegistrationMap.setPurgeListener((reference, registrations) -> {
+            registrations.forEach((registration, name) -> eventRouter.remove(name, registration));
+            routeVersion.incrementAndGet();
+        });
     }
 
     @Override
@@ -49,6 +119,152 @@ public class DefaultInvokerEventBus implements AbstractInvokerEventBus {
         dispatcher.dispatchEvent(registrationList, eventName, eventExceptionHandler, args);
     }
 
+    @Override
+    public void pub0(String eventName, EventExceptionHandler eventExceptionHandler) {
+        dispatcher.dispatchEvent0(eventRouter.matching(eventName), eventName, eventExceptionHandler);
+    }
+
+    @Override
+    public void pub1(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1) {
+        dispatcher.dispatchEvent1(eventRouter.matching(eventName), eventName, eventExceptionHandler, arg1);
+    }
+
+    @Override
+    public void pub2(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2) {
+        dispatcher.dispatchEvent2(eventRouter.matching(eventName), eventName, eventExceptionHandler, arg1, arg2);
+    }
+
+    @Override
+    public void pub3(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2, Object arg3) {
+        dispatcher.dispatchEvent3(eventRouter.matching(eventName), eventName, eventExceptionHandler, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void pub4(String eventName, EventExceptionHandler eventExceptionHandler, Object arg1, Object arg2, Object arg3, Object arg4) {
+        dispatcher.dispatchEvent4(eventRouter.matching(eventName), eventName, eventExceptionHandler, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void pubBatch(String eventName, EventExceptionHandler eventExceptionHandler, List<Object[]> argsList) {
+        if (argsList.isEmpty()) {
+            return;
+        }
+        dispatcher.dispatchBatch(eventRouter.matching(eventName), eventName, eventExceptionHandler, argsList);
+    }
+
+    @Override
+    public void pubEvent(Object event, EventExceptionHandler eventExceptionHandler) {
+        AssertTools.notNull(event, "event must not be null");
+        TypeDispatch typeDispatch = typeDispatchCache.get(event.getClass());
+        dispatcher.dispatchEvent1(typeDispatch.matching(), typeDispatch.eventName, eventExceptionHandler, event);
+    }
+
+    @Override
+    public CompletableFuture<List<Object>> requestWithTimeout(String eventName, Duration timeout, Object... args) {
+        CompletableFuture<Object>[] futures = invokeAll(eventName, args);
+        CompletableFuture<List<Object>> result = CompletableFuture.allOf(futures)
+                .thenApply(ignored -> {
+                    List<Object> results = new ArrayList<>(futures.length);
+                    for (CompletableFuture<Object> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+        return withTimeout(result, timeout, futures);
+    }
+
+    @Override
+    public CompletableFuture<Object> requestFirstWithTimeout(String eventName, Duration timeout, Object... args) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object>[] futures = invokeAll(eventName, args);
+        if (futures.length == 0) {
+            result.completeExceptionally(new NoSuchElementException("No invoker registered for event: " + eventName));
+            return result;
+        }
+        AtomicInteger remaining = new AtomicInteger(futures.length);
+        AtomicReference<Throwable> lastError = new AtomicReference<>();
+        for (CompletableFuture<Object> future : futures) {
+            future.whenComplete((value, ex) -> {
+                if (ex == null && value != null) {
+                    result.complete(value);
+                    return;
+                }
+                if (ex != null) {
+                    lastError.set(ex);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    Throwable error = lastError.get();
+                    if (error == null) {
+                        result.complete(null);
+                    } else {
+                        result.completeExceptionally(error);
+                    }
+                }
+            });
+        }
+        return withTimeout(result, timeout, futures);
+    }
+
+    /**
+     * 设置请求超时，请求超时或被取消时取消未完成的调用：尚未开始的调用不再执行，执行中的调用被中断
+     *
+     * @param result  请求结果
+     * @param timeout 超时时间
+     * @param futures 各调用器调用结果
+     * @param <T>     结果类型
+     * @return 请求结果本身，取消返回值即取消请求
+     */
+    private <T> CompletableFuture<T> withTimeout(CompletableFuture<T> result, Duration timeout, CompletableFuture<Object>[] futures) {
+        // orTimeout作用于result本身，回调注册在result上而不替换返回值，调用方取消时回调同样触发
+        result.orTimeout(timeoutNanos(timeout), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, ex) -> {
+            if (ex != null) {
+                for (CompletableFuture<Object> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 在请求执行器中并行调用事件全部调用器（已应用注册选项）
+     *
+     * @param eventName 事件名
+     * @param args      参数列表
+     * @return 各调用器调用结果
+     */
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<Object>[] invokeAll(String eventName, Object[] args) {
+        List<InvokerRegistration> registrationList = eventRouter.matching(eventName);
+        CompletableFuture<Object>[] futures = new CompletableFuture[registrationList.size()];
+        for (int idx = 0; idx < futures.length; idx++) {
+            Invoker invoker = registrationList instanceof InvokerRegistrationSnapshot
+                    ? ((InvokerRegistrationSnapshot) registrationList).getComposedInvoker(idx)
+                    : registrationList.get(idx).getComposedInvoker(eventName);
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                try {
+                    future.complete(invoker.invoke(args));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }, null);
+            future.whenComplete((value, ex) -> {
+                if (future.isCancelled()) {
+                    task.cancel(true);
+                }
+            });
+            requestExecutor.execute(task);
+            futures[idx] = future;
+        }
+        return futures;
+    }
+
+    private long timeoutNanos(Duration timeout) {
+        return (timeout == null ? requestTimeout : timeout).toNanos();
+    }
+
     @Override
     public void unregister(String eventName, Invoker invoker) {
         EventInvokerKey key = new EventInvokerKey(eventName, invoker);
@@ -56,17 +272,182 @@ public class DefaultInvokerEventBus implements AbstractInvokerEventBus {
         if (invokerRegistration != null) {
             eventRouter.remove(eventName, invokerRegistration);
             eventInvokerRegistrationMap.remove(key);
+            routeVersion.incrementAndGet();
+            return;
+        }
+        Object target = invoker instanceof WeakInvoker ? ((WeakInvoker) invoker).target() : invoker;
+        Map<InvokerRegistration, String> weakRegistrations = target == null ? null : weakRegistrationMap.get(target);
+        if (weakRegistrations == null) {
+            return;
+        }
+        for (Map.Entry<InvokerRegistration, String> entry : weakRegistrations.entrySet()) {
+            InvokerRegistration weakRegistration = entry.getKey();
+            if (entry.getValue().equals(eventName)
+                    && ((WeakInvoker) weakRegistration.getInvoker()).matches(invoker)
+                    && weakRegistrations.remove(weakRegistration) != null) {
+                eventRouter.remove(eventName, weakRegistration);
+                routeVersion.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 弱引用订阅时，事件总线弱引用Lambda捕获的第一个对象（通常为方法引用的接收者），
+     * 直接调用Lambda实现方法，不持有Lambda及其创建的调用器；Lambda未捕获对象时按普通订阅注册
+     */
+    @Override
+    public Invoker registerLambda(String eventName, Serializable lambda, Invoker invoker, RegisterOption... options) {
+        if (WeakRegisterOption.isWeak(options)) {
+            WeakInvoker weakInvoker = WeakInvoker.fromLambda(lambda);
+            if (weakInvoker != null) {
+                return registerWeak(eventName, weakInvoker.target(), weakInvoker, options);
+            }
+            return registerStrong(eventName, invoker, options);
         }
+        return register(eventName, invoker, options);
     }
 
+    /**
+     * 弱引用订阅时，事件总线弱引用调用器本身，调用方需自行强引用调用器；
+     * 由Lambda注册时见{@link #registerLambda(String, Serializable, Invoker, RegisterOption...)}
+     */
     @Override
     public Invoker register(String eventName, Invoker invoker, RegisterOption... options) {
+        if (WeakRegisterOption.isWeak(options)) {
+            registerWeak(eventName, invoker, new WeakInvoker(invoker), options);
+            return invoker;
+        }
+        return registerStrong(eventName, invoker, options);
+    }
+
+    private Invoker registerWeak(String eventName, Object target, WeakInvoker weakInvoker, RegisterOption... options) {
+        InvokerRegistration invokerRegistration = new InvokerRegistration(weakInvoker, options);
+        eventRouter.add(eventName, invokerRegistration);
+        weakRegistrationMap.computeIfAbsent(target, key -> new ConcurrentHashMap<>()).put(invokerRegistration, eventName);
+        routeVersion.incrementAndGet();
+        scheduleWeakPurge();
+        return weakInvoker;
+    }
+
+    private Invoker registerStrong(String eventName, Invoker invoker, RegisterOption... options) {
         InvokerRegistration invokerRegistration = new InvokerRegistration(invoker, options);
         eventRouter.add(eventName, invokerRegistration);
         eventInvokerRegistrationMap.put(new EventInvokerKey(eventName, invoker), invokerRegistration);
+        routeVersion.incrementAndGet();
         return invoker;
     }
 
+    /**
+     * 立即移除调用器已被回收的弱引用订阅
+     */
+    public void purgeWeakRegistrations() {
+        weakRegistrationMap.purgeStaleKeys();
+    }
+
+    /**
+     * 存在弱引用订阅时，在共享定时器中定期批量清理已回收的订阅；定时任务仅弱引用事件总线，不阻止其回收
+     */
+    private void scheduleWeakPurge() {
+        if (weakPurgeScheduled.compareAndSet(false, true)) {
+            EventTimer.shared().schedule(new WeakPurgeTask(new WeakReference<>(this)), WEAK_PURGE_INTERVAL_NANOS);
+        }
+    }
+
+    /**
+     * 弱引用订阅清理任务
+     */
+    private static final class WeakPurgeTask implements Runnable {
+        private final WeakReference<DefaultInvokerEventBus> busReference;
+
+        WeakPurgeTask(WeakReference<DefaultInvokerEventBus> busReference) {
+            this.busReference = busReference;
+        }
+
+        @Override
+        public void run() {
+            DefaultInvokerEventBus eventBus = busReference.get();
+            if (eventBus == null) {
+                return;
+            }
+            eventBus.weakPurgeScheduled.set(false);
+            if (!eventBus.weakRegistrationMap.isEmpty()) {
+                eventBus.scheduleWeakPurge();
+            }
+        }
+    }
+
+    /**
+     * 事件类型分发表，缓存类型层次（自身、父类及接口）的事件名，以及按路由版本解析的扁平调用器列表
+     */
+    private final class TypeDispatch {
+        final String eventName;
+        final String[] hierarchyEventNames;
+        volatile ResolvedRegistrations resolved;
+
+        TypeDispatch(Class<?> type) {
+            this.eventName = InvokerEventBus.typeEventName(type);
+            Set<Class<?>> hierarchy = new LinkedHashSet<>();
+            Deque<Class<?>> queue = new ArrayDeque<>();
+            queue.add(type);
+            while (!queue.isEmpty()) {
+                Class<?> current = queue.poll();
+                if (!hierarchy.add(current)) {
+                    continue;
+                }
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+            this.hierarchyEventNames = hierarchy.stream().map(InvokerEventBus::typeEventName).toArray(String[]::new);
+        }
+
+        List<InvokerRegistration> matching() {
+            int version = routeVersion.get();
+            ResolvedRegistrations current = resolved;
+            if (current != null && current.version == version) {
+                return current.registrations;
+            }
+            current = new ResolvedRegistrations(version, resolve());
+            resolved = current;
+            return current.registrations;
+        }
+
+        private List<InvokerRegistration> resolve() {
+            InvokerRegistrationSnapshot snapshot = InvokerRegistrationSnapshot.EMPTY;
+            List<InvokerRegistration> registrations = null;
+            for (String hierarchyEventName : hierarchyEventNames) {
+                List<InvokerRegistration> matched = eventRouter.matching(hierarchyEventName);
+                if (matched.isEmpty()) {
+                    continue;
+                }
+                if (registrations == null && matched instanceof InvokerRegistrationSnapshot) {
+                    snapshot = snapshot.merge((InvokerRegistrationSnapshot) matched);
+                    continue;
+                }
+                if (registrations == null) {
+                    registrations = new ArrayList<>(snapshot);
+                }
+                registrations.addAll(matched);
+            }
+            return registrations == null ? snapshot : Collections.unmodifiableList(registrations);
+        }
+    }
+
+    /**
+     * 指定路由版本解析出的调用器列表
+     */
+    private static final class ResolvedRegistrations {
+        final int version;
+        final List<InvokerRegistration> registrations;
+
+        ResolvedRegistrations(int version, List<InvokerRegistration> registrations) {
+            this.version = version;
+            this.registrations = registrations;
+        }
+    }
+
     private static class EventInvokerKey {
         final String eventName;
         final Invoker invoker;
@@ -1,6 +1,7 @@
 package cn.bytengine.d.events.internal;
 
 import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.fn.invoker.Invoker;
 
 import java.util.List;
 
@@ -30,4 +31,106 @@ public interface EventInvokerDispatcher {
                        String eventName,
                        EventExceptionHandler eventExceptionHandler,
                        Object... args);
+
+    /**
+     * 分发无参数事件，默认组装参数数组后调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     */
+    default void dispatchEvent0(List<InvokerRegistration> invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler) {
+        dispatchEvent(invoker, eventName, eventExceptionHandler, Invoker.EMPTY_ARGS);
+    }
+
+    /**
+     * 分发1个参数事件，默认组装参数数组后调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     * @param arg1                  参数1
+     */
+    default void dispatchEvent1(List<InvokerRegistration> invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler,
+                                Object arg1) {
+        dispatchEvent(invoker, eventName, eventExceptionHandler, new Object[]{arg1});
+    }
+
+    /**
+     * 分发2个参数事件，默认组装参数数组后调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     */
+    default void dispatchEvent2(List<InvokerRegistration> invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler,
+                                Object arg1,
+                                Object arg2) {
+        dispatchEvent(invoker, eventName, eventExceptionHandler, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * 分发3个参数事件，默认组装参数数组后调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     * @param arg3                  参数3
+     */
+    default void dispatchEvent3(List<InvokerRegistration> invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler,
+                                Object arg1,
+                                Object arg2,
+                                Object arg3) {
+        dispatchEvent(invoker, eventName, eventExceptionHandler, new Object[]{arg1, arg2, arg3});
+    }
+
+    /**
+     * 分发4个参数事件，默认组装参数数组后调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     * @param arg1                  参数1
+     * @param arg2                  参数2
+     * @param arg3                  参数3
+     * @param arg4                  参数4
+     */
+    default void dispatchEvent4(List<InvokerRegistration> invoker,
+                                String eventName,
+                                EventExceptionHandler eventExceptionHandler,
+                                Object arg1,
+                                Object arg2,
+                                Object arg3,
+                                Object arg4) {
+        dispatchEvent(invoker, eventName, eventExceptionHandler, new Object[]{arg1, arg2, arg3, arg4});
+    }
+
+    /**
+     * 批量分发同名事件，默认逐个调用{@link #dispatchEvent(List, String, EventExceptionHandler, Object...)}
+     *
+     * @param invoker               调用器列表
+     * @param eventName             事件名
+     * @param eventExceptionHandler 事件异常处理器
+     * @param argsList              参数列表，每个元素为一次事件的参数数组
+     */
+    default void dispatchBatch(List<InvokerRegistration> invoker,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               List<Object[]> argsList) {
+        for (Object[] args : argsList) {
+            dispatchEvent(invoker, eventName, eventExceptionHandler, args);
+        }
+    }
 }
@@ -2,12 +2,18 @@ package cn.bytengine.d.events.internal;
 
 import cn.bytengine.d.events.RegisterOption;
 import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.lang.CollectionTools;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 注册Invoker信息
+ * <p>
+ * 注册选项按事件名称组合一次并缓存，限流、防抖等有状态选项在同一注册、同一事件的多次分发间共享状态
+ * </p>
  *
  * <ul>
  * <li>ProjectName:    d
@@ -22,6 +28,7 @@ import java.util.Collection;
 public class InvokerRegistration {
     private final Invoker invoker;
     private final Collection<RegisterOption> registerOptions;
+    private final ConcurrentMap<String, Invoker> composedInvokers = new ConcurrentHashMap<>(2);
 
     /**
      * 构造器
@@ -62,6 +69,33 @@ public class InvokerRegistration {
         return registerOptions;
     }
 
+    /**
+     * 获取按注册选项顺序组合后的调用器，同一事件名称只组合一次
+     *
+     * @param eventName 事件名称
+     * @return 应用全部注册选项后的调用器
+     */
+    public Invoker getComposedInvoker(String eventName) {
+        if (CollectionTools.isEmpty(registerOptions)) {
+            return invoker;
+        }
+        Invoker composed = composedInvokers.get(eventName);
+        if (composed == null) {
+            composed = composedInvokers.computeIfAbsent(eventName, this::compose);
+        }
+        return composed;
+    }
+
+    private Invoker compose(String eventName) {
+        Invoker composed = invoker;
+        if (CollectionTools.isNotEmpty(registerOptions)) {
+            for (RegisterOption option : registerOptions) {
+                composed = option.option(eventName, composed);
+            }
+        }
+        return composed;
+    }
+
     @Override
     public String toString() {
         return "InvokerRegistration{" +
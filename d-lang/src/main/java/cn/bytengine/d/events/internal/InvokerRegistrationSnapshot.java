@@ -0,0 +1,145 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * 不可变的调用器注册快照
+ * <p>
+ * 每个注册信息在加入快照时即完成注册选项组合，分发时直接遍历数组调用
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      InvokerRegistrationSnapshot
+ * <li>Date:    2026/10/18 10:12
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class InvokerRegistrationSnapshot extends AbstractList<InvokerRegistration> implements RandomAccess {
+    /**
+     * 空快照
+     */
+    public static final InvokerRegistrationSnapshot EMPTY = new InvokerRegistrationSnapshot(new InvokerRegistration[0], new Invoker[0]);
+
+    private final InvokerRegistration[] registrations;
+    private final Invoker[] invokers;
+
+    private InvokerRegistrationSnapshot(InvokerRegistration[] registrations, Invoker[] invokers) {
+        this.registrations = registrations;
+        this.invokers = invokers;
+    }
+
+    /**
+     * 追加注册信息，生成新快照
+     *
+     * @param eventName    事件名称
+     * @param registration 注册信息
+     * @return 新快照
+     */
+    public InvokerRegistrationSnapshot append(String eventName, InvokerRegistration registration) {
+        return insert(registrations.length, eventName, registration);
+    }
+
+    /**
+     * 在指定位置插入注册信息，生成新快照
+     *
+     * @param index        插入位置
+     * @param eventName    事件名称
+     * @param registration 注册信息
+     * @return 新快照
+     */
+    public InvokerRegistrationSnapshot insert(int index, String eventName, InvokerRegistration registration) {
+        int size = registrations.length;
+        InvokerRegistration[] newRegistrations = new InvokerRegistration[size + 1];
+        Invoker[] newInvokers = new Invoker[size + 1];
+        System.arraycopy(registrations, 0, newRegistrations, 0, index);
+        System.arraycopy(invokers, 0, newInvokers, 0, index);
+        System.arraycopy(registrations, index, newRegistrations, index + 1, size - index);
+        System.arraycopy(invokers, index, newInvokers, index + 1, size - index);
+        newRegistrations[index] = registration;
+        newInvokers[index] = registration.getComposedInvoker(eventName);
+        return new InvokerRegistrationSnapshot(newRegistrations, newInvokers);
+    }
+
+    /**
+     * 移除注册信息，生成新快照
+     *
+     * @param registration 注册信息
+     * @return 新快照，未包含指定注册信息时返回当前快照
+     */
+    public InvokerRegistrationSnapshot without(InvokerRegistration registration) {
+        int index = indexOf(registration);
+        if (index < 0) {
+            return this;
+        }
+        int size = registrations.length;
+        if (size == 1) {
+            return EMPTY;
+        }
+        InvokerRegistration[] newRegistrations = new InvokerRegistration[size - 1];
+        Invoker[] newInvokers = new Invoker[size - 1];
+        System.arraycopy(registrations, 0, newRegistrations, 0, index);
+        System.arraycopy(invokers, 0, newInvokers, 0, index);
+        System.arraycopy(registrations, index + 1, newRegistrations, index, size - index - 1);
+        System.arraycopy(invokers, index + 1, newInvokers, index, size - index - 1);
+        return new InvokerRegistrationSnapshot(newRegistrations, newInvokers);
+    }
+
+    /**
+     * 合并另一快照，生成新快照，已组合的调用器直接复用
+     *
+     * @param other 另一快照
+     * @return 新快照
+     */
+    public InvokerRegistrationSnapshot merge(InvokerRegistrationSnapshot other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        int size = registrations.length;
+        InvokerRegistration[] newRegistrations = Arrays.copyOf(registrations, size + other.registrations.length);
+        Invoker[] newInvokers = Arrays.copyOf(invokers, size + other.invokers.length);
+        System.arraycopy(other.registrations, 0, newRegistrations, size, other.registrations.length);
+        System.arraycopy(other.invokers, 0, newInvokers, size, other.invokers.length);
+        return new InvokerRegistrationSnapshot(newRegistrations, newInvokers);
+    }
+
+    /**
+     * 获取指定位置已组合注册选项的调用器
+     *
+     * @param index 位置
+     * @return 组合后的调用器
+     */
+    public Invoker getComposedInvoker(int index) {
+        return invokers[index];
+    }
+
+    @Override
+    public InvokerRegistration get(int index) {
+        return registrations[index];
+    }
+
+    @Override
+    public int size() {
+        return registrations.length;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int idx = 0; idx < registrations.length; idx++) {
+            if (registrations[idx] == o) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,120 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.PartitionedExecutor;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 按键分区的异步事件分发器
+ * <p>
+ * 每次发布按分区键提交为一个任务，在对应通道中交由代理分发器同步调用全部调用器；
+ * 相同键的事件保持发布顺序，不同键的事件并行执行
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      PartitionedEventInvokerDispatcher
+ * <li>Date:    2026/10/18 15:10
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see PartitionedExecutor
+ */
+public class PartitionedEventInvokerDispatcher implements EventInvokerDispatcher {
+    private final PartitionedExecutor executor;
+    private final Function<Object[], Object> keyExtractor;
+    private final EventInvokerDispatcher delegate;
+
+    /**
+     * 构造器，通道中使用{@link SnapshotEventInvokerDispatcher}执行调用
+     *
+     * @param executor     分区执行器
+     * @param keyExtractor 分区键提取函数
+     */
+    public PartitionedEventInvokerDispatcher(PartitionedExecutor executor, Function<Object[], Object> keyExtractor) {
+        this(executor, keyExtractor, new SnapshotEventInvokerDispatcher());
+    }
+
+    /**
+     * 构造器
+     *
+     * @param executor     分区执行器
+     * @param keyExtractor 分区键提取函数
+     * @param delegate     通道中实际执行调用的分发器
+     */
+    public PartitionedEventInvokerDispatcher(PartitionedExecutor executor,
+                                             Function<Object[], Object> keyExtractor,
+                                             EventInvokerDispatcher delegate) {
+        AssertTools.notNull(executor, "PartitionedExecutor must not be null");
+        AssertTools.notNull(keyExtractor, "keyExtractor must not be null");
+        AssertTools.notNull(delegate, "EventInvokerDispatcher must not be null");
+        this.executor = executor;
+        this.keyExtractor = keyExtractor;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        if (invokerRegistrations.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(keyExtractor.apply(args),
+                    () -> delegate.dispatchEvent(invokerRegistrations, eventName, eventExceptionHandler, args));
+        } catch (RejectedExecutionException ex) {
+            for (InvokerRegistration invokerRegistration : invokerRegistrations) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistration.getInvoker(), args);
+            }
+        }
+    }
+
+    /**
+     * 批量分发，按分区键分组后每组提交为一个任务，组内保持发布顺序并交由代理分发器整批处理
+     */
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        if (invokerRegistrations.isEmpty()) {
+            return;
+        }
+        Map<Object, List<Object[]>> partitions = new LinkedHashMap<>();
+        for (Object[] args : argsList) {
+            partitions.computeIfAbsent(keyExtractor.apply(args), key -> new ArrayList<>()).add(args);
+        }
+        partitions.forEach((key, partitionArgsList) -> {
+            try {
+                executor.execute(key,
+                        () -> delegate.dispatchBatch(invokerRegistrations, eventName, eventExceptionHandler, partitionArgsList));
+            } catch (RejectedExecutionException ex) {
+                for (Object[] args : partitionArgsList) {
+                    for (InvokerRegistration invokerRegistration : invokerRegistrations) {
+                        eventExceptionHandler.handle(ex, eventName, invokerRegistration.getInvoker(), args);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 获取分区执行器，可用于读取各通道队列深度
+     *
+     * @return 分区执行器
+     */
+    public PartitionedExecutor getExecutor() {
+        return executor;
+    }
+}
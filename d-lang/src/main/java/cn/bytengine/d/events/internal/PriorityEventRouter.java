@@ -0,0 +1,33 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.PriorityRegisterOption;
+
+/**
+ * 按优先级排序的快照事件路由
+ * <p>
+ * 注册时按{@link PriorityRegisterOption}将调用器插入快照中的有序位置（优先级高者在前，相同优先级保持注册顺序），
+ * 分发时直接按快照数组顺序调用，无需每次排序
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      PriorityEventRouter
+ * <li>Date:    2026/10/18 19:10
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see VetoableEventInvokerDispatcher
+ */
+public class PriorityEventRouter extends SnapshotEventRouter {
+    @Override
+    protected InvokerRegistrationSnapshot add(InvokerRegistrationSnapshot snapshot, String eventName, InvokerRegistration invoker) {
+        int priority = PriorityRegisterOption.priorityOf(invoker.getRegisterOptions());
+        int index = snapshot.size();
+        while (index > 0 && PriorityRegisterOption.priorityOf(snapshot.get(index - 1).getRegisterOptions()) < priority) {
+            index--;
+        }
+        return snapshot.insert(index, eventName, invoker);
+    }
+}
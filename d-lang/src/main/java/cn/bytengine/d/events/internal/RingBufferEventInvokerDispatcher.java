@@ -0,0 +1,508 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 基于预分配环形缓冲区的异步事件分发器
+ * <p>
+ * 每次发布只占用一个预分配槽位（而非每个调用器一个任务），由消费线程批量取出后交给代理分发器同步调用。
+ * 存在多个消费线程时，按事件名散列选择环形缓冲区，同一事件名保持发布顺序。
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      RingBufferEventInvokerDispatcher
+ * <li>Date:    2026/10/18 11:05
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class RingBufferEventInvokerDispatcher implements EventInvokerDispatcher {
+    /**
+     * 消费线程退出时写入生产者游标的值，之后的发布均失败
+     */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final RingBuffer[] ringBuffers;
+    private final OverflowPolicy overflowPolicy;
+    private final EventInvokerDispatcher delegate;
+    private volatile boolean running = true;
+
+    /**
+     * 构造器
+     *
+     * @param bufferSize     每个环形缓冲区槽位数，必须是2的幂
+     * @param consumers      消费线程数
+     * @param batchSize      消费线程单批最大处理数
+     * @param waitStrategy   消费线程等待策略提供函数，每个消费线程独立实例
+     * @param overflowPolicy 缓冲区满时的处理策略
+     * @param delegate       消费线程中实际执行调用的分发器
+     * @param threadFactory  消费线程工厂
+     */
+    public RingBufferEventInvokerDispatcher(int bufferSize,
+                                            int consumers,
+                                            int batchSize,
+                                            Supplier<WaitStrategy> waitStrategy,
+                                            OverflowPolicy overflowPolicy,
+                                            EventInvokerDispatcher delegate,
+                                            ThreadFactory threadFactory) {
+        AssertTools.isTrue(bufferSize > 0 && Integer.bitCount(bufferSize) == 1, "bufferSize must be a power of 2");
+        AssertTools.isTrue(consumers > 0, "consumers must be positive");
+        AssertTools.isTrue(batchSize > 0, "batchSize must be positive");
+        AssertTools.notNull(waitStrategy, "WaitStrategy must not be null");
+        AssertTools.notNull(overflowPolicy, "OverflowPolicy must not be null");
+        AssertTools.notNull(delegate, "EventInvokerDispatcher must not be null");
+        AssertTools.notNull(threadFactory, "ThreadFactory must not be null");
+        this.overflowPolicy = overflowPolicy;
+        this.delegate = delegate;
+        this.ringBuffers = new RingBuffer[consumers];
+        for (int idx = 0; idx < consumers; idx++) {
+            RingBuffer ringBuffer = new RingBuffer(bufferSize, batchSize, waitStrategy.get());
+            ringBuffers[idx] = ringBuffer;
+            Thread thread = threadFactory.newThread(ringBuffer::consume);
+            thread.start();
+        }
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        if (invokerRegistrations.isEmpty()) {
+            return;
+        }
+        RingBuffer ringBuffer = ringBuffers.length == 1
+                ? ringBuffers[0]
+                : ringBuffers[Math.floorMod(eventName.hashCode(), ringBuffers.length)];
+        if (!running || !ringBuffer.publish(invokerRegistrations, eventName, eventExceptionHandler, args, null, overflowPolicy)) {
+            reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+        }
+    }
+
+    /**
+     * 批量分发，整批事件只占用一个槽位
+     */
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        if (invokerRegistrations.isEmpty() || argsList.isEmpty()) {
+            return;
+        }
+        RingBuffer ringBuffer = ringBuffers.length == 1
+                ? ringBuffers[0]
+                : ringBuffers[Math.floorMod(eventName.hashCode(), ringBuffers.length)];
+        if (!running || !ringBuffer.publish(invokerRegistrations, eventName, eventExceptionHandler, null, argsList, overflowPolicy)) {
+            if (running && overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+                delegate.dispatchBatch(invokerRegistrations, eventName, eventExceptionHandler, argsList);
+                return;
+            }
+            for (Object[] args : argsList) {
+                reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+            }
+        }
+    }
+
+    /**
+     * 停止消费线程，已发布的事件会在消费线程退出前处理完毕；
+     * 消费线程退出后才发布的事件交由事件异常处理器以{@link RejectedExecutionException}通知
+     */
+    public void shutdown() {
+        running = false;
+        for (RingBuffer ringBuffer : ringBuffers) {
+            ringBuffer.waitStrategy.signal();
+        }
+    }
+
+    private void reject(List<InvokerRegistration> invokerRegistrations,
+                        String eventName,
+                        EventExceptionHandler eventExceptionHandler,
+                        Object[] args) {
+        if (running && overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            delegate.dispatchEvent(invokerRegistrations, eventName, eventExceptionHandler, args);
+            return;
+        }
+        RejectedExecutionException ex = new RejectedExecutionException("Event ring buffer is full or shut down: " + eventName);
+        for (InvokerRegistration invokerRegistration : invokerRegistrations) {
+            eventExceptionHandler.handle(ex, eventName, invokerRegistration.getInvoker(), args);
+        }
+    }
+
+    /**
+     * 环形缓冲区槽位
+     */
+    private static final class Slot {
+        List<InvokerRegistration> invokerRegistrations;
+        String eventName;
+        EventExceptionHandler eventExceptionHandler;
+        Object[] args;
+        List<Object[]> argsList;
+    }
+
+    /**
+     * 多生产者、单消费者环形缓冲区
+     */
+    private final class RingBuffer {
+        private final Slot[] slots;
+        private final AtomicLongArray published;
+        private final int mask;
+        private final int batchSize;
+        private final WaitStrategy waitStrategy;
+        private final AtomicLong producerCursor = new AtomicLong();
+        private final AtomicLong consumerCursor = new AtomicLong();
+
+        RingBuffer(int bufferSize, int batchSize, WaitStrategy waitStrategy) {
+            this.slots = new Slot[bufferSize];
+            this.published = new AtomicLongArray(bufferSize);
+            for (int idx = 0; idx < bufferSize; idx++) {
+                slots[idx] = new Slot();
+                published.set(idx, -1L);
+            }
+            this.mask = bufferSize - 1;
+            this.batchSize = batchSize;
+            this.waitStrategy = waitStrategy;
+        }
+
+        boolean publish(List<InvokerRegistration> invokerRegistrations,
+                        String eventName,
+                        EventExceptionHandler eventExceptionHandler,
+                        Object[] args,
+                        List<Object[]> argsList,
+                        OverflowPolicy overflowPolicy) {
+            long sequence;
+            while (true) {
+                sequence = producerCursor.get();
+                if (sequence == CLOSED) {
+                    return false;
+                }
+                if (sequence - consumerCursor.get() >= slots.length) {
+                    if (overflowPolicy != OverflowPolicy.BLOCK || !running) {
+                        return false;
+                    }
+                    waitStrategy.signal();
+                    LockSupport.parkNanos(1L);
+                    continue;
+                }
+                if (producerCursor.compareAndSet(sequence, sequence + 1)) {
+                    break;
+                }
+            }
+            int index = (int) sequence & mask;
+            Slot slot = slots[index];
+            slot.invokerRegistrations = invokerRegistrations;
+            slot.eventName = eventName;
+            slot.eventExceptionHandler = eventExceptionHandler;
+            slot.args = args;
+            slot.argsList = argsList;
+            published.lazySet(index, sequence);
+            waitStrategy.signal();
+            return true;
+        }
+
+        void consume() {
+            long next = consumerCursor.get();
+            int idleTimes = 0;
+            while (true) {
+                long available = next;
+                long limit = next + batchSize;
+                while (available < limit && published.get((int) available & mask) == available) {
+                    available++;
+                }
+                if (available == next) {
+                    // 以CLOSED关闭生产者游标，与发布竞争失败时说明有新事件，继续消费
+                    if (!running && producerCursor.compareAndSet(next, CLOSED)) {
+                        return;
+                    }
+                    waitStrategy.waitFor(idleTimes++);
+                    continue;
+                }
+                idleTimes = 0;
+                for (long sequence = next; sequence < available; sequence++) {
+                    Slot slot = slots[(int) sequence & mask];
+                    try {
+                        if (slot.argsList != null) {
+                            delegate.dispatchBatch(slot.invokerRegistrations, slot.eventName, slot.eventExceptionHandler, slot.argsList);
+                        } else {
+                            delegate.dispatchEvent(slot.invokerRegistrations, slot.eventName, slot.eventExceptionHandler, slot.args);
+                        }
+                    } catch (Throwable ignored) {
+                        // 异常已交由EventExceptionHandler处理，此处仅保证消费线程存活
+                    }
+                    slot.invokerRegistrations = null;
+                    slot.eventName = null;
+                    slot.eventExceptionHandler = null;
+                    slot.args = null;
+                    slot.argsList = null;
+                }
+                next = available;
+                consumerCursor.lazySet(next);
+            }
+        }
+    }
+
+    /**
+     * 缓冲区满时的处理策略
+     *
+     * @author Ban Tenio
+     * @version 1.0
+     */
+    public enum OverflowPolicy {
+        /**
+         * 阻塞发布线程直到有空闲槽位
+         */
+        BLOCK,
+        /**
+         * 丢弃事件，并以{@link RejectedExecutionException}通知事件异常处理器
+         */
+        DROP,
+        /**
+         * 在发布线程中同步执行
+         */
+        CALLER_RUNS
+    }
+
+    /**
+     * 消费线程空闲等待策略
+     *
+     * @author Ban Tenio
+     * @version 1.0
+     */
+    public interface WaitStrategy {
+        /**
+         * 无可消费事件时等待
+         *
+         * @param idleTimes 连续空闲次数
+         */
+        void waitFor(int idleTimes);
+
+        /**
+         * 发布事件后唤醒消费线程
+         */
+        default void signal() {
+        }
+
+        /**
+         * 忙等策略，延迟最低，持续占用CPU
+         *
+         * @return 等待策略
+         */
+        static WaitStrategy busySpin() {
+            return idleTimes -> Thread.onSpinWait();
+        }
+
+        /**
+         * 自旋后让出CPU
+         *
+         * @return 等待策略
+         */
+        static WaitStrategy yielding() {
+            return idleTimes -> {
+                if (idleTimes < 100) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            };
+        }
+
+        /**
+         * 自旋、让出CPU后休眠
+         *
+         * @param sleepNanos 休眠纳秒数
+         * @return 等待策略
+         */
+        static WaitStrategy sleeping(long sleepNanos) {
+            return idleTimes -> {
+                if (idleTimes < 100) {
+                    Thread.onSpinWait();
+                } else if (idleTimes < 200) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(sleepNanos);
+                }
+            };
+        }
+
+        /**
+         * 基于锁条件等待，CPU占用最低
+         *
+         * @return 等待策略
+         */
+        static WaitStrategy blocking() {
+            return new BlockingWaitStrategy();
+        }
+    }
+
+    /**
+     * 基于锁条件的等待策略
+     */
+    private static final class BlockingWaitStrategy implements WaitStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private volatile boolean waiting;
+
+        @Override
+        public void waitFor(int idleTimes) {
+            lock.lock();
+            try {
+                waiting = true;
+                notEmpty.await(1, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                waiting = false;
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signal() {
+            if (waiting) {
+                lock.lock();
+                try {
+                    notEmpty.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * RingBufferEventInvokerDispatcher构建器
+     *
+     * @author Ban Tenio
+     * @version 1.0
+     */
+    public static final class Builder {
+        private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+
+        private int bufferSize = 1024;
+        private int consumers = 1;
+        private int batchSize = 64;
+        private Supplier<WaitStrategy> waitStrategy = WaitStrategy::blocking;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private EventInvokerDispatcher delegate = new SnapshotEventInvokerDispatcher();
+        private ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "d-event-ring-" + THREAD_INDEX.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        private Builder() {
+        }
+
+        /**
+         * 设置每个环形缓冲区槽位数，必须是2的幂
+         *
+         * @param bufferSize 槽位数
+         * @return 当前构建器
+         */
+        public Builder setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * 设置消费线程数
+         *
+         * @param consumers 消费线程数
+         * @return 当前构建器
+         */
+        public Builder setConsumers(int consumers) {
+            this.consumers = consumers;
+            return this;
+        }
+
+        /**
+         * 设置消费线程单批最大处理数
+         *
+         * @param batchSize 单批最大处理数
+         * @return 当前构建器
+         */
+        public Builder setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * 设置消费线程等待策略
+         *
+         * @param waitStrategy 等待策略提供函数
+         * @return 当前构建器
+         */
+        public Builder setWaitStrategy(Supplier<WaitStrategy> waitStrategy) {
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * 设置缓冲区满时的处理策略
+         *
+         * @param overflowPolicy 处理策略
+         * @return 当前构建器
+         */
+        public Builder setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * 设置消费线程中实际执行调用的分发器
+         *
+         * @param delegate 分发器
+         * @return 当前构建器
+         */
+        public Builder setDelegate(EventInvokerDispatcher delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * 设置消费线程工厂
+         *
+         * @param threadFactory 线程工厂
+         * @return 当前构建器
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * 创建分发器并启动消费线程
+         *
+         * @return 分发器
+         */
+        public RingBufferEventInvokerDispatcher build() {
+            return new RingBufferEventInvokerDispatcher(bufferSize, consumers, batchSize, waitStrategy,
+                    overflowPolicy, delegate, threadFactory);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiFunction;
+
+/**
+ * 分片单写线程事件分发器
+ * <p>
+ * 按分片键（默认事件名）将事件固定分配到N个事件循环线程，每个事件循环消费自己的无锁多生产者单消费者队列，
+ * 同一分片的调用器只在同一线程执行，调用器所维护的状态无需同步；发布线程只入队，不会阻塞。
+ * </p>
+ * <p>
+ * 调用器中可通过{@link #currentShard()}确认当前所在分片，通过{@link #execute(Object, Runnable)}将任务投递到指定分片线程中执行。
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      ShardedEventInvokerDispatcher
+ * <li>Date:    2026/10/18 17:20
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class ShardedEventInvokerDispatcher implements EventInvokerDispatcher {
+    private static final ThreadLocal<EventLoop> CURRENT_LOOP = new ThreadLocal<>();
+    private static final int SPIN_TIMES = 128;
+    /**
+     * 事件循环退出时写入尾节点的哨兵，之后的入队均失败
+     */
+    private static final Task CLOSED = new Task();
+
+    private final EventLoop[] eventLoops;
+    private final BiFunction<String, Object[], Object> shardKey;
+    private final EventInvokerDispatcher delegate;
+    private volatile boolean running = true;
+
+    /**
+     * 构造器
+     *
+     * @param shards        事件循环线程数
+     * @param shardKey      分片键提取函数，参数为事件名和事件参数
+     * @param delegate      事件循环中实际执行调用的分发器
+     * @param threadFactory 事件循环线程工厂
+     */
+    public ShardedEventInvokerDispatcher(int shards,
+                                         BiFunction<String, Object[], Object> shardKey,
+                                         EventInvokerDispatcher delegate,
+                                         ThreadFactory threadFactory) {
+        AssertTools.isTrue(shards > 0, "shards must be positive");
+        AssertTools.notNull(shardKey, "shardKey must not be null");
+        AssertTools.notNull(delegate, "EventInvokerDispatcher must not be null");
+        AssertTools.notNull(threadFactory, "ThreadFactory must not be null");
+        this.shardKey = shardKey;
+        this.delegate = delegate;
+        this.eventLoops = new EventLoop[shards];
+        for (int idx = 0; idx < shards; idx++) {
+            eventLoops[idx] = new EventLoop(idx);
+        }
+        for (EventLoop eventLoop : eventLoops) {
+            Thread thread = threadFactory.newThread(eventLoop);
+            eventLoop.thread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 获取当前线程所在分片下标
+     *
+     * @return 分片下标，当前线程不是事件循环线程时返回-1
+     */
+    public static int currentShard() {
+        EventLoop eventLoop = CURRENT_LOOP.get();
+        return eventLoop == null ? -1 : eventLoop.index;
+    }
+
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        if (invokerRegistrations.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+            return;
+        }
+        Task task = new Task();
+        task.invokerRegistrations = invokerRegistrations;
+        task.eventName = eventName;
+        task.eventExceptionHandler = eventExceptionHandler;
+        task.args = args;
+        if (!eventLoops[shardIndex(shardKey.apply(eventName, args))].offer(task)) {
+            reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+        }
+    }
+
+    /**
+     * 批量分发，按分片键将整批拆分为各分片的子批次，每个子批次作为一个任务投递，保持各分片内的事件顺序
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        if (invokerRegistrations.isEmpty() || argsList.isEmpty()) {
+            return;
+        }
+        if (!running) {
+            for (Object[] args : argsList) {
+                reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+            }
+            return;
+        }
+        int size = argsList.size();
+        int[] shardIndexes = new int[size];
+        boolean sameShard = true;
+        for (int idx = 0; idx < size; idx++) {
+            shardIndexes[idx] = shardIndex(shardKey.apply(eventName, argsList.get(idx)));
+            sameShard &= shardIndexes[idx] == shardIndexes[0];
+        }
+        if (sameShard) {
+            offerBatch(shardIndexes[0], invokerRegistrations, eventName, eventExceptionHandler, argsList);
+            return;
+        }
+        List<Object[]>[] shardBatches = new List[eventLoops.length];
+        for (int idx = 0; idx < size; idx++) {
+            List<Object[]> shardBatch = shardBatches[shardIndexes[idx]];
+            if (shardBatch == null) {
+                shardBatch = new ArrayList<>();
+                shardBatches[shardIndexes[idx]] = shardBatch;
+            }
+            shardBatch.add(argsList.get(idx));
+        }
+        for (int shard = 0; shard < shardBatches.length; shard++) {
+            if (shardBatches[shard] != null) {
+                offerBatch(shard, invokerRegistrations, eventName, eventExceptionHandler, shardBatches[shard]);
+            }
+        }
+    }
+
+    private void offerBatch(int shard,
+                            List<InvokerRegistration> invokerRegistrations,
+                            String eventName,
+                            EventExceptionHandler eventExceptionHandler,
+                            List<Object[]> argsList) {
+        Task task = new Task();
+        task.invokerRegistrations = invokerRegistrations;
+        task.eventName = eventName;
+        task.eventExceptionHandler = eventExceptionHandler;
+        task.argsList = argsList;
+        if (!eventLoops[shard].offer(task)) {
+            for (Object[] args : argsList) {
+                reject(invokerRegistrations, eventName, eventExceptionHandler, args);
+            }
+        }
+    }
+
+    private void reject(List<InvokerRegistration> invokerRegistrations,
+                        String eventName,
+                        EventExceptionHandler eventExceptionHandler,
+                        Object[] args) {
+        RejectedExecutionException ex = new RejectedExecutionException("Sharded event loops have been shut down: " + eventName);
+        for (InvokerRegistration invokerRegistration : invokerRegistrations) {
+            eventExceptionHandler.handle(ex, eventName, invokerRegistration.getInvoker(), args);
+        }
+    }
+
+    /**
+     * 将任务投递到分片键对应的事件循环线程中执行，可用于访问分片所拥有的状态
+     *
+     * @param key      分片键
+     * @param runnable 任务
+     * @throws RejectedExecutionException 分发器已关闭
+     */
+    public void execute(Object key, Runnable runnable) {
+        AssertTools.notNull(runnable, "Runnable must not be null");
+        if (!running) {
+            throw new RejectedExecutionException("Sharded event loops have been shut down");
+        }
+        Task task = new Task();
+        task.runnable = runnable;
+        if (!eventLoops[shardIndex(key)].offer(task)) {
+            throw new RejectedExecutionException("Sharded event loops have been shut down");
+        }
+    }
+
+    /**
+     * 计算分片键对应的分片下标
+     *
+     * @param key 分片键
+     * @return 分片下标
+     */
+    public int shardIndex(Object key) {
+        if (eventLoops.length == 1) {
+            return 0;
+        }
+        int hash = Objects.hashCode(key);
+        return Math.floorMod(hash ^ (hash >>> 16), eventLoops.length);
+    }
+
+    /**
+     * 获取分片数
+     *
+     * @return 分片数
+     */
+    public int getShards() {
+        return eventLoops.length;
+    }
+
+    /**
+     * 停止接收新事件，已入队的事件会在事件循环线程退出前处理完毕；
+     * 事件循环退出后才入队的事件交由事件异常处理器以{@link RejectedExecutionException}通知
+     */
+    public void shutdown() {
+        running = false;
+        for (EventLoop eventLoop : eventLoops) {
+            LockSupport.unpark(eventLoop.thread);
+        }
+    }
+
+    /**
+     * 队列节点，同时承载事件分发和普通任务
+     */
+    private static final class Task {
+        volatile Task next;
+        List<InvokerRegistration> invokerRegistrations;
+        String eventName;
+        EventExceptionHandler eventExceptionHandler;
+        Object[] args;
+        List<Object[]> argsList;
+        Runnable runnable;
+    }
+
+    /**
+     * 事件循环，持有无锁多生产者单消费者链表队列
+     */
+    private final class EventLoop implements Runnable {
+        private final int index;
+        private final AtomicReference<Task> tail;
+        private Task head;
+        private volatile boolean parked;
+        private volatile Thread thread;
+
+        EventLoop(int index) {
+            this.index = index;
+            this.head = new Task();
+            this.tail = new AtomicReference<>(head);
+        }
+
+        /**
+         * 入队，事件循环已退出时返回false
+         *
+         * @param task 任务
+         * @return 是否入队
+         */
+        boolean offer(Task task) {
+            Task previous;
+            do {
+                previous = tail.get();
+                if (previous == CLOSED) {
+                    return false;
+                }
+            } while (!tail.compareAndSet(previous, task));
+            previous.next = task;
+            if (parked) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        private Task poll() {
+            Task next = head.next;
+            if (next == null) {
+                return null;
+            }
+            head = next;
+            return next;
+        }
+
+        private boolean isEmpty() {
+            return head.next == null && tail.get() == head;
+        }
+
+        @Override
+        public void run() {
+            CURRENT_LOOP.set(this);
+            int idleTimes = 0;
+            while (true) {
+                Task task = poll();
+                if (task == null) {
+                    if (!isEmpty()) {
+                        // 生产者已交换尾节点但尚未链接，短暂自旋等待
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    if (!running) {
+                        // 以哨兵关闭队列，与入队竞争失败时说明有新任务，继续处理
+                        if (tail.compareAndSet(head, CLOSED)) {
+                            break;
+                        }
+                        continue;
+                    }
+                    if (idleTimes++ < SPIN_TIMES) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    parked = true;
+                    if (isEmpty() && running) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    continue;
+                }
+                idleTimes = 0;
+                try {
+                    if (task.runnable != null) {
+                        task.runnable.run();
+                    } else if (task.argsList != null) {
+                        delegate.dispatchBatch(task.invokerRegistrations, task.eventName, task.eventExceptionHandler, task.argsList);
+                    } else {
+                        delegate.dispatchEvent(task.invokerRegistrations, task.eventName, task.eventExceptionHandler, task.args);
+                    }
+                } catch (Throwable e) {
+                    Thread current = Thread.currentThread();
+                    current.getUncaughtExceptionHandler().uncaughtException(current, e);
+                }
+                task.invokerRegistrations = null;
+                task.eventName = null;
+                task.eventExceptionHandler = null;
+                task.args = null;
+                task.argsList = null;
+                task.runnable = null;
+            }
+            CURRENT_LOOP.remove();
+        }
+    }
+
+    /**
+     * ShardedEventInvokerDispatcher构建器
+     *
+     * @author Ban Tenio
+     * @version 1.0
+     */
+    public static final class Builder {
+        private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+
+        private int shards = Runtime.getRuntime().availableProcessors();
+        private BiFunction<String, Object[], Object> shardKey = (eventName, args) -> eventName;
+        private EventInvokerDispatcher delegate = new SnapshotEventInvokerDispatcher();
+        private ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "d-event-loop-" + THREAD_INDEX.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        private Builder() {
+        }
+
+        /**
+         * 设置事件循环线程数，默认为可用处理器数
+         *
+         * @param shards 事件循环线程数
+         * @return 当前构建器
+         */
+        public Builder setShards(int shards) {
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * 设置分片键提取函数，默认使用事件名
+         *
+         * @param shardKey 分片键提取函数，参数为事件名和事件参数
+         * @return 当前构建器
+         */
+        public Builder setShardKey(BiFunction<String, Object[], Object> shardKey) {
+            this.shardKey = shardKey;
+            return this;
+        }
+
+        /**
+         * 设置事件循环中实际执行调用的分发器
+         *
+         * @param delegate 分发器
+         * @return 当前构建器
+         */
+        public Builder setDelegate(EventInvokerDispatcher delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * 设置事件循环线程工厂
+         *
+         * @param threadFactory 线程工厂
+         * @return 当前构建器
+         */
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        /**
+         * 创建分发器并启动事件循环线程
+         *
+         * @return 分发器
+         */
+        public ShardedEventInvokerDispatcher build() {
+            return new ShardedEventInvokerDispatcher(shards, shardKey, delegate, threadFactory);
+        }
+    }
+}
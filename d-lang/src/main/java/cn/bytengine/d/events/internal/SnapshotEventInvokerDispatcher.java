@@ -0,0 +1,162 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import java.util.List;
+
+/**
+ * 快照事件分发器
+ * <p>
+ * 配合{@link SnapshotEventRouter}使用，直接遍历快照中已组合注册选项的调用器；
+ * 非快照列表时回退为{@link DefaultEventInvokerDispatcher}逻辑。
+ * 固定参数个数的分发走{@link Invoker}快速调用路径，仅在异常时组装参数数组
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      SnapshotEventInvokerDispatcher
+ * <li>Date:    2026/10/18 10:26
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class SnapshotEventInvokerDispatcher extends DefaultEventInvokerDispatcher {
+    @Override
+    public void dispatchEvent(
+            List<InvokerRegistration> invokerRegistrations,
+            String eventName,
+            EventExceptionHandler eventExceptionHandler,
+            Object... args) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent(invokerRegistrations, eventName, eventExceptionHandler, args);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke(args);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), args);
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent0(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent0(invokerRegistrations, eventName, eventExceptionHandler);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke0();
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), Invoker.EMPTY_ARGS);
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent1(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent1(invokerRegistrations, eventName, eventExceptionHandler, arg1);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke1(arg1);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), new Object[]{arg1});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent2(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent2(invokerRegistrations, eventName, eventExceptionHandler, arg1, arg2);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke2(arg1, arg2);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), new Object[]{arg1, arg2});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent3(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent3(invokerRegistrations, eventName, eventExceptionHandler, arg1, arg2, arg3);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke3(arg1, arg2, arg3);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), new Object[]{arg1, arg2, arg3});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent4(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3,
+                               Object arg4) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchEvent4(invokerRegistrations, eventName, eventExceptionHandler, arg1, arg2, arg3, arg4);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            try {
+                snapshot.getComposedInvoker(idx).invoke4(arg1, arg2, arg3, arg4);
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, snapshot.get(idx).getInvoker(), new Object[]{arg1, arg2, arg3, arg4});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        if (!(invokerRegistrations instanceof InvokerRegistrationSnapshot)) {
+            super.dispatchBatch(invokerRegistrations, eventName, eventExceptionHandler, argsList);
+            return;
+        }
+        InvokerRegistrationSnapshot snapshot = (InvokerRegistrationSnapshot) invokerRegistrations;
+        for (int idx = 0, size = snapshot.size(); idx < size; idx++) {
+            processBatch(snapshot.getComposedInvoker(idx), snapshot.get(idx).getInvoker(),
+                    eventName, eventExceptionHandler, argsList);
+        }
+    }
+}
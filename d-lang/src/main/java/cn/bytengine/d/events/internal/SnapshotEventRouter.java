@@ -0,0 +1,75 @@
+package cn.bytengine.d.events.internal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 快照事件路由，根据事件名完全匹配
+ * <p>
+ * 每个事件名维护不可变的注册快照，注册/注销时整体替换快照，匹配时直接返回快照，不产生额外对象
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      SnapshotEventRouter
+ * <li>Date:    2026/10/18 10:20
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see InvokerRegistrationSnapshot
+ * @see SnapshotEventInvokerDispatcher
+ */
+public class SnapshotEventRouter implements EventRouter {
+    private final Map<String, InvokerRegistrationSnapshot> snapshotMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(String eventName, InvokerRegistration invoker) {
+        snapshotMap.compute(eventName, (key, snapshot) ->
+                add(snapshot == null ? InvokerRegistrationSnapshot.EMPTY : snapshot, key, invoker));
+    }
+
+    /**
+     * 将注册信息加入快照，默认追加到末尾，子类可覆盖以调整调用顺序
+     *
+     * @param snapshot  当前快照
+     * @param eventName 事件名称
+     * @param invoker   注册信息
+     * @return 新快照
+     */
+    protected InvokerRegistrationSnapshot add(InvokerRegistrationSnapshot snapshot, String eventName, InvokerRegistration invoker) {
+        return snapshot.append(eventName, invoker);
+    }
+
+    @Override
+    public void remove(String eventName, InvokerRegistration invoker) {
+        snapshotMap.computeIfPresent(eventName, (key, snapshot) -> {
+            InvokerRegistrationSnapshot newSnapshot = snapshot.without(invoker);
+            return newSnapshot.isEmpty() ? null : newSnapshot;
+        });
+    }
+
+    @Override
+    public void remove(String eventName) {
+        snapshotMap.remove(eventName);
+    }
+
+    @Override
+    public boolean has(String eventName, InvokerRegistration invoker) {
+        InvokerRegistrationSnapshot snapshot = snapshotMap.get(eventName);
+        return snapshot != null && snapshot.indexOf(invoker) >= 0;
+    }
+
+    @Override
+    public boolean has(String eventName) {
+        return snapshotMap.containsKey(eventName);
+    }
+
+    @Override
+    public List<InvokerRegistration> matching(String eventName) {
+        InvokerRegistrationSnapshot snapshot = snapshotMap.get(eventName);
+        return snapshot == null ? InvokerRegistrationSnapshot.EMPTY : snapshot;
+    }
+}
@@ -0,0 +1,147 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.InvokerEventBus;
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import java.util.List;
+
+/**
+ * 可中止的事件分发器
+ * <p>
+ * 按调用器列表顺序同步调用，任一调用器返回{@link InvokerEventBus#STOP}时不再调用后续调用器，
+ * 配合{@link PriorityEventRouter}可让低成本的校验调用器优先执行并拦截事件。
+ * 调用器异常交由事件异常处理器处理，不会中止分发；异步类注册选项返回null，无法中止分发。
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      VetoableEventInvokerDispatcher
+ * <li>Date:    2026/10/18 19:20
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class VetoableEventInvokerDispatcher extends SnapshotEventInvokerDispatcher {
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke(args) == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), args);
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent0(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke0() == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), Invoker.EMPTY_ARGS);
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent1(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke1(arg1) == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), new Object[]{arg1});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent2(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke2(arg1, arg2) == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), new Object[]{arg1, arg2});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent3(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke3(arg1, arg2, arg3) == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), new Object[]{arg1, arg2, arg3});
+            }
+        }
+    }
+
+    @Override
+    public void dispatchEvent4(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3,
+                               Object arg4) {
+        for (int idx = 0, size = invokerRegistrations.size(); idx < size; idx++) {
+            try {
+                if (composedInvoker(invokerRegistrations, idx, eventName).invoke4(arg1, arg2, arg3, arg4) == InvokerEventBus.STOP) {
+                    return;
+                }
+            } catch (Throwable ex) {
+                eventExceptionHandler.handle(ex, eventName, invokerRegistrations.get(idx).getInvoker(), new Object[]{arg1, arg2, arg3, arg4});
+            }
+        }
+    }
+
+    /**
+     * 批量分发，逐个事件分发以便每个事件独立中止
+     */
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        for (Object[] args : argsList) {
+            dispatchEvent(invokerRegistrations, eventName, eventExceptionHandler, args);
+        }
+    }
+
+    private static Invoker composedInvoker(List<InvokerRegistration> invokerRegistrations, int index, String eventName) {
+        return invokerRegistrations instanceof InvokerRegistrationSnapshot
+                ? ((InvokerRegistrationSnapshot) invokerRegistrations).getComposedInvoker(index)
+                : invokerRegistrations.get(index).getComposedInvoker(eventName);
+    }
+}
@@ -0,0 +1,197 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.fn.invoker.DirectInvokers;
+import cn.bytengine.d.fn.invoker.Invoker;
+import cn.bytengine.d.fn.invoker.MethodHandles;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.SerializedLambda;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+
+/**
+ * 弱引用调用器，目标对象被回收后调用不执行任何逻辑
+ * <p>
+ * 由Lambda创建时，弱引用Lambda捕获的第一个对象（方法引用的接收者，或Lambda捕获的this、局部变量），
+ * 以该对象为第一个参数直接调用Lambda实现方法，调用器自身不持有Lambda实例；
+ * 由调用器创建时，弱引用调用器本身。
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      WeakInvoker
+ * <li>Date:    2026/10/18 18:05
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see cn.bytengine.d.events.WeakRegisterOption
+ */
+final class WeakInvoker implements Invoker {
+    private final WeakReference<Object> reference;
+    /**
+     * Lambda实现方法调用器，第一个参数为目标对象；为null时目标对象即调用器
+     */
+    private final Invoker implInvoker;
+    /**
+     * Lambda除目标对象外的其他捕获参数
+     */
+    private final Object[] capturedArgs;
+
+    WeakInvoker(Invoker invoker) {
+        this.reference = new WeakReference<>(invoker);
+        this.implInvoker = null;
+        this.capturedArgs = Invoker.EMPTY_ARGS;
+    }
+
+    private WeakInvoker(Object target, Invoker implInvoker, Object[] capturedArgs) {
+        this.reference = new WeakReference<>(target);
+        this.implInvoker = implInvoker;
+        this.capturedArgs = capturedArgs;
+    }
+
+    /**
+     * 根据Lambda创建弱引用其捕获对象的调用器
+     *
+     * @param lambda Serializable化的Lambda
+     * @return 弱引用调用器，Lambda未捕获对象或实现方法无法解析时返回null
+     */
+    static WeakInvoker fromLambda(Serializable lambda) {
+        SerializedLambda serializedLambda = MethodHandles.readSerializedLambda(lambda);
+        if (serializedLambda.getCapturedArgCount() == 0
+                || serializedLambda.getImplMethodKind() == MethodHandleInfo.REF_newInvokeSpecial) {
+            return null;
+        }
+        Method method = findImplMethod(lambda.getClass().getClassLoader(), serializedLambda);
+        if (method == null) {
+            return null;
+        }
+        Object[] capturedArgs = new Object[serializedLambda.getCapturedArgCount() - 1];
+        for (int idx = 0; idx < capturedArgs.length; idx++) {
+            capturedArgs[idx] = serializedLambda.getCapturedArg(idx + 1);
+        }
+        return new WeakInvoker(serializedLambda.getCapturedArg(0), DirectInvokers.fromMethod(method), capturedArgs);
+    }
+
+    private static Method findImplMethod(ClassLoader classLoader, SerializedLambda serializedLambda) {
+        try {
+            Class<?> implClass = Class.forName(serializedLambda.getImplClass().replace('/', '.'), false, classLoader);
+            Class<?>[] parameterTypes = MethodType.fromMethodDescriptorString(serializedLambda.getImplMethodSignature(), classLoader)
+                    .parameterArray();
+            String methodName = serializedLambda.getImplMethodName();
+            for (Class<?> type = implClass; type != null; type = type.getSuperclass()) {
+                try {
+                    return type.getDeclaredMethod(methodName, parameterTypes);
+                } catch (NoSuchMethodException ignored) {
+                    // 继续查找父类
+                }
+            }
+            return implClass.getMethod(methodName, parameterTypes);
+        } catch (ReflectiveOperationException | TypeNotPresentException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取弱引用的目标对象
+     *
+     * @return 目标对象，已被回收时返回null
+     */
+    Object target() {
+        return reference.get();
+    }
+
+    /**
+     * 是否对应注销时传入的调用器：注册返回的调用器本身，或由调用器创建时被弱引用的调用器
+     *
+     * @param invoker 调用器
+     * @return 是否对应
+     */
+    boolean matches(Invoker invoker) {
+        return this == invoker || (implInvoker == null && reference.get() == invoker);
+    }
+
+    @Override
+    public Object invoke(Object[] args) throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke(args);
+        }
+        Object[] implArgs = new Object[1 + capturedArgs.length + args.length];
+        implArgs[0] = target;
+        System.arraycopy(capturedArgs, 0, implArgs, 1, capturedArgs.length);
+        System.arraycopy(args, 0, implArgs, 1 + capturedArgs.length, args.length);
+        return implInvoker.invoke(implArgs);
+    }
+
+    @Override
+    public Object invoke0() throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke0();
+        }
+        return capturedArgs.length == 0 ? implInvoker.invoke1(target) : invoke(EMPTY_ARGS);
+    }
+
+    @Override
+    public Object invoke1(Object arg1) throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke1(arg1);
+        }
+        return capturedArgs.length == 0 ? implInvoker.invoke2(target, arg1) : invoke(new Object[]{arg1});
+    }
+
+    @Override
+    public Object invoke2(Object arg1, Object arg2) throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke2(arg1, arg2);
+        }
+        return capturedArgs.length == 0 ? implInvoker.invoke3(target, arg1, arg2) : invoke(new Object[]{arg1, arg2});
+    }
+
+    @Override
+    public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke3(arg1, arg2, arg3);
+        }
+        return capturedArgs.length == 0 ? implInvoker.invoke4(target, arg1, arg2, arg3) : invoke(new Object[]{arg1, arg2, arg3});
+    }
+
+    @Override
+    public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        Object target = reference.get();
+        if (target == null) {
+            return null;
+        }
+        if (implInvoker == null) {
+            return ((Invoker) target).invoke4(arg1, arg2, arg3, arg4);
+        }
+        return invoke(new Object[]{arg1, arg2, arg3, arg4});
+    }
+
+    @Override
+    public String toString() {
+        return "WeakInvoker{" + reference.get() + '}';
+    }
+}
@@ -0,0 +1,251 @@
+package cn.bytengine.d.events.internal;
+
+import cn.bytengine.d.lang.AssertTools;
+import cn.bytengine.d.lang.CharSequenceTools;
+import cn.bytengine.d.utils.GlobPathMatcher;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 通配符事件路由，支持层级事件名
+ * <p>
+ * 事件名按分隔符（默认{@code .}）拆分为段，订阅编译为段前缀树，段匹配规则与{@link GlobPathMatcher}一致：
+ * </p>
+ * <ul>
+ * <li>{@code ?} 匹配一个字符</li>
+ * <li>{@code *} 匹配段内零或多个字符，单独使用时匹配任意一段</li>
+ * <li>{@code **} 匹配零或多段，如{@code order.**.failed}</li>
+ * </ul>
+ * <p>
+ * 具体事件名解析出的调用器快照会被缓存，注册/注销时整体失效；缓存命中时与完全匹配路由开销相当。
+ * {@link #add}、{@link #remove}、{@link #has(String, InvokerRegistration)}中的事件名为订阅表达式本身。
+ * </p>
+ *
+ * <ul>
+ * <li>ProjectName:    d
+ * <li>Package:        cn.bytengine.d.events.internal
+ * <li>ClassName:      WildcardEventRouter
+ * <li>Date:    2026/10/18 13:40
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see SnapshotEventInvokerDispatcher
+ */
+public class WildcardEventRouter implements EventRouter {
+    /**
+     * 默认事件名分隔符
+     */
+    public static final String DEFAULT_SEPARATOR = ".";
+
+    private static final int CACHE_TURNOFF_THRESHOLD = 65536;
+
+    private final String separator;
+    private final GlobPathMatcher segmentMatcher;
+    private final Node root = new Node(null);
+    private final Map<String, InvokerRegistrationSnapshot> subscriptionMap = new ConcurrentHashMap<>();
+    private volatile Map<String, InvokerRegistrationSnapshot> resolvedCache = new ConcurrentHashMap<>();
+
+    /**
+     * 使用默认分隔符创建通配符事件路由
+     */
+    public WildcardEventRouter() {
+        this(DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * 指定分隔符创建通配符事件路由
+     *
+     * @param separator 事件名分隔符
+     */
+    public WildcardEventRouter(String separator) {
+        AssertTools.notEmpty(separator, "'separator' is required");
+        this.separator = separator;
+        this.segmentMatcher = new GlobPathMatcher(separator);
+    }
+
+    @Override
+    public synchronized void add(String eventName, InvokerRegistration invoker) {
+        Node node = compile(eventName);
+        node.snapshot = node.snapshot.append(eventName, invoker);
+        subscriptionMap.put(eventName, node.snapshot);
+        invalidate();
+    }
+
+    @Override
+    public synchronized void remove(String eventName, InvokerRegistration invoker) {
+        Node node = find(eventName);
+        if (node != null) {
+            node.snapshot = node.snapshot.without(invoker);
+            if (node.snapshot.isEmpty()) {
+                subscriptionMap.remove(eventName);
+            } else {
+                subscriptionMap.put(eventName, node.snapshot);
+            }
+            invalidate();
+        }
+    }
+
+    @Override
+    public synchronized void remove(String eventName) {
+        Node node = find(eventName);
+        if (node != null) {
+            node.snapshot = InvokerRegistrationSnapshot.EMPTY;
+            subscriptionMap.remove(eventName);
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean has(String eventName, InvokerRegistration invoker) {
+        InvokerRegistrationSnapshot snapshot = subscriptionMap.get(eventName);
+        return snapshot != null && snapshot.indexOf(invoker) >= 0;
+    }
+
+    @Override
+    public boolean has(String eventName) {
+        return !matching(eventName).isEmpty();
+    }
+
+    @Override
+    public List<InvokerRegistration> matching(String eventName) {
+        Map<String, InvokerRegistrationSnapshot> cache = resolvedCache;
+        InvokerRegistrationSnapshot snapshot = cache.get(eventName);
+        if (snapshot == null) {
+            snapshot = resolve(eventName);
+            if (cache.size() < CACHE_TURNOFF_THRESHOLD) {
+                cache.put(eventName, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 注册表变更后替换缓存；并发解析中的结果只会写入已废弃的旧缓存
+     */
+    private void invalidate() {
+        resolvedCache = new ConcurrentHashMap<>();
+    }
+
+    private Node compile(String pattern) {
+        Node node = root;
+        for (String segment : tokenize(pattern)) {
+            node = node.child(segment);
+        }
+        return node;
+    }
+
+    private Node find(String pattern) {
+        Node node = root;
+        for (String segment : tokenize(pattern)) {
+            node = node.find(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private InvokerRegistrationSnapshot resolve(String eventName) {
+        Set<Node> matched = new LinkedHashSet<>();
+        collect(root, tokenize(eventName), 0, matched);
+        InvokerRegistrationSnapshot snapshot = InvokerRegistrationSnapshot.EMPTY;
+        for (Node node : matched) {
+            snapshot = snapshot.merge(node.snapshot);
+        }
+        return snapshot;
+    }
+
+    private void collect(Node node, String[] segments, int index, Set<Node> matched) {
+        Node doubleWildcard = node.doubleWildcard;
+        if (doubleWildcard != null) {
+            for (int next = index; next <= segments.length; next++) {
+                collect(doubleWildcard, segments, next, matched);
+            }
+        }
+        if (index == segments.length) {
+            if (!node.snapshot.isEmpty()) {
+                matched.add(node);
+            }
+            return;
+        }
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            collect(literal, segments, index + 1, matched);
+        }
+        Node wildcard = node.wildcard;
+        if (wildcard != null) {
+            collect(wildcard, segments, index + 1, matched);
+        }
+        for (Node pattern : node.patterns) {
+            if (segmentMatcher.match(pattern.segment, segment)) {
+                collect(pattern, segments, index + 1, matched);
+            }
+        }
+    }
+
+    private String[] tokenize(String eventName) {
+        return CharSequenceTools.tokenizeToStringArray(eventName, separator);
+    }
+
+    /**
+     * 段前缀树节点
+     */
+    private static final class Node {
+        private static final String WILDCARD = "*";
+        private static final String DOUBLE_WILDCARD = "**";
+
+        final String segment;
+        final Map<String, Node> literals = new ConcurrentHashMap<>();
+        final List<Node> patterns = new CopyOnWriteArrayList<>();
+        volatile Node wildcard;
+        volatile Node doubleWildcard;
+        volatile InvokerRegistrationSnapshot snapshot = InvokerRegistrationSnapshot.EMPTY;
+
+        Node(String segment) {
+            this.segment = segment;
+        }
+
+        Node child(String segment) {
+            Node node = find(segment);
+            if (node != null) {
+                return node;
+            }
+            node = new Node(segment);
+            if (DOUBLE_WILDCARD.equals(segment)) {
+                doubleWildcard = node;
+            } else if (WILDCARD.equals(segment)) {
+                wildcard = node;
+            } else if (GlobPathMatcher.isPattern(segment)) {
+                patterns.add(node);
+            } else {
+                literals.put(segment, node);
+            }
+            return node;
+        }
+
+        Node find(String segment) {
+            if (DOUBLE_WILDCARD.equals(segment)) {
+                return doubleWildcard;
+            }
+            if (WILDCARD.equals(segment)) {
+                return wildcard;
+            }
+            if (GlobPathMatcher.isPattern(segment)) {
+                for (Node pattern : patterns) {
+                    if (pattern.segment.equals(segment)) {
+                        return pattern;
+                    }
+                }
+                return null;
+            }
+            return literals.get(segment);
+        }
+    }
+}
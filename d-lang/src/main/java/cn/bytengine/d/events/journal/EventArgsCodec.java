@@ -0,0 +1,28 @@
+package cn.bytengine.d.events.journal;
+
+/**
+ * 事件参数编解码器，用于事件日志持久化
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see EventJournal
+ */
+public interface EventArgsCodec {
+    /**
+     * 编码事件参数
+     *
+     * @param eventName 事件名
+     * @param args      事件参数
+     * @return 编码结果
+     */
+    byte[] encode(String eventName, Object[] args);
+
+    /**
+     * 解码事件参数
+     *
+     * @param eventName 事件名
+     * @param bytes     编码结果
+     * @return 事件参数
+     */
+    Object[] decode(String eventName, byte[] bytes);
+}
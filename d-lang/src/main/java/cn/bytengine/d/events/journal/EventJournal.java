@@ -0,0 +1,381 @@
+package cn.bytengine.d.events.journal;
+
+import cn.bytengine.d.lang.AssertTools;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 基于内存映射文件的分段追加事件日志
+ * <p>
+ * 事件按递增序号追加到固定大小的分段文件（{@code FileChannel}/{@link MappedByteBuffer}），写入只是内存拷贝；
+ * 后台线程按固定间隔统一刷盘，多次追加共享一次刷盘（组提交）。投递完成后调用{@link #ack(long)}确认，
+ * 已连续确认的最大序号单独持久化；重启后通过{@link #replay(EntryConsumer)}重放未确认事件。
+ * </p>
+ * <p>
+ * 记录格式：{@code [int 长度][int CRC32][long 序号][int 事件名长度][事件名][参数编码]}，长度为0或校验失败视为日志末尾。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see JournalEventInvokerDispatcher
+ */
+public class EventJournal implements AutoCloseable {
+    /**
+     * 默认分段大小，64MB
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    /**
+     * 默认刷盘间隔，毫秒
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String ACK_FILE_NAME = "ack.offset";
+    private static final int LENGTH_SIZE = 4;
+    private static final int CRC_SIZE = 4;
+    private static final int BODY_HEADER_SIZE = 8 + 4;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final EventArgsCodec codec;
+    private final List<Segment> segments = new ArrayList<>();
+    private final NavigableSet<Long> pendingAcks = new TreeSet<>();
+    private final FileChannel ackChannel;
+    private final MappedByteBuffer ackBuffer;
+    private final ScheduledExecutorService flusher;
+    private Segment current;
+    private long nextSequence;
+    private long ackedSequence;
+    private boolean dirty;
+    private boolean closed;
+
+    /**
+     * 使用默认分段大小、刷盘间隔和Java序列化编解码器打开事件日志
+     *
+     * @param directory 日志目录
+     * @return 事件日志
+     */
+    public static EventJournal open(Path directory) {
+        return new EventJournal(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS, SerializableEventArgsCodec.INSTANCE);
+    }
+
+    /**
+     * 打开事件日志，目录不存在时创建
+     *
+     * @param directory           日志目录
+     * @param segmentSize         分段文件大小
+     * @param flushIntervalMillis 刷盘间隔毫秒数，小于等于0时不启动后台刷盘，需手动调用{@link #sync()}
+     * @param codec               事件参数编解码器
+     */
+    public EventJournal(Path directory, int segmentSize, long flushIntervalMillis, EventArgsCodec codec) {
+        AssertTools.notNull(directory, "directory must not be null");
+        AssertTools.isTrue(segmentSize > LENGTH_SIZE + CRC_SIZE + BODY_HEADER_SIZE, "segmentSize is too small");
+        AssertTools.notNull(codec, "EventArgsCodec must not be null");
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.codec = codec;
+        try {
+            Files.createDirectories(directory);
+            this.ackChannel = FileChannel.open(directory.resolve(ACK_FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.ackBuffer = ackChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+            this.ackedSequence = ackBuffer.getLong(0);
+            loadSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (flushIntervalMillis > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "d-event-journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::sync, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * 追加事件，参数编码在锁外完成
+     *
+     * @param eventName 事件名
+     * @param args      事件参数
+     * @return 事件序号
+     */
+    public long append(String eventName, Object[] args) {
+        byte[] name = eventName.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = codec.encode(eventName, args);
+        int bodyLength = BODY_HEADER_SIZE + name.length + payload.length;
+        int entryLength = LENGTH_SIZE + CRC_SIZE + bodyLength;
+        AssertTools.isTrue(entryLength <= segmentSize, "Journal entry of {} bytes exceeds segment size", entryLength);
+        synchronized (this) {
+            AssertTools.isFalse(closed, "EventJournal is closed");
+            if (current.position + entryLength > segmentSize) {
+                roll();
+            }
+            long sequence = nextSequence++;
+            ByteBuffer buffer = current.buffer;
+            int position = current.position;
+            int bodyPosition = position + LENGTH_SIZE + CRC_SIZE;
+            buffer.putLong(bodyPosition, sequence);
+            buffer.putInt(bodyPosition + 8, name.length);
+            buffer.put(bodyPosition + BODY_HEADER_SIZE, name);
+            buffer.put(bodyPosition + BODY_HEADER_SIZE + name.length, payload);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(bodyPosition, bodyLength));
+            buffer.putInt(position + LENGTH_SIZE, (int) crc.getValue());
+            buffer.putInt(position, bodyLength);
+            current.position = position + entryLength;
+            dirty = true;
+            return sequence;
+        }
+    }
+
+    /**
+     * 确认事件已投递，乱序确认会暂存直到序号连续
+     *
+     * @param sequence 事件序号
+     */
+    public synchronized void ack(long sequence) {
+        if (sequence <= ackedSequence) {
+            return;
+        }
+        pendingAcks.add(sequence);
+        long acked = ackedSequence;
+        while (!pendingAcks.isEmpty() && pendingAcks.first() == acked + 1) {
+            acked = pendingAcks.pollFirst();
+        }
+        if (acked != ackedSequence) {
+            ackedSequence = acked;
+            ackBuffer.putLong(0, acked);
+            dirty = true;
+        }
+    }
+
+    /**
+     * 获取已连续确认的最大序号
+     *
+     * @return 序号
+     */
+    public synchronized long getAckedSequence() {
+        return ackedSequence;
+    }
+
+    /**
+     * 按序重放全部未确认事件，消费成功后自动确认；应在发布新事件前调用
+     *
+     * @param consumer 事件消费者
+     */
+    public void replay(EntryConsumer consumer) {
+        List<Segment> snapshot;
+        long acked;
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments);
+            acked = ackedSequence;
+        }
+        for (Segment segment : snapshot) {
+            ByteBuffer buffer = segment.buffer.duplicate();
+            int position = 0;
+            while (true) {
+                int bodyLength = readBodyLength(buffer, position);
+                if (bodyLength < 0) {
+                    break;
+                }
+                int bodyPosition = position + LENGTH_SIZE + CRC_SIZE;
+                long sequence = buffer.getLong(bodyPosition);
+                if (sequence > acked) {
+                    byte[] name = new byte[buffer.getInt(bodyPosition + 8)];
+                    byte[] payload = new byte[bodyLength - BODY_HEADER_SIZE - name.length];
+                    buffer.get(bodyPosition + BODY_HEADER_SIZE, name);
+                    buffer.get(bodyPosition + BODY_HEADER_SIZE + name.length, payload);
+                    String eventName = new String(name, StandardCharsets.UTF_8);
+                    consumer.accept(sequence, eventName, codec.decode(eventName, payload));
+                    ack(sequence);
+                }
+                position = bodyPosition + bodyLength;
+            }
+        }
+    }
+
+    /**
+     * 将已追加事件和确认序号刷入磁盘
+     */
+    public void sync() {
+        MappedByteBuffer buffer;
+        synchronized (this) {
+            if (!dirty || closed) {
+                return;
+            }
+            dirty = false;
+            buffer = current.buffer;
+        }
+        buffer.force();
+        ackBuffer.force();
+    }
+
+    /**
+     * 删除全部事件均已确认的分段文件（当前写入分段除外）
+     */
+    public synchronized void compact() {
+        while (segments.size() > 1 && segments.get(1).startSequence - 1 <= ackedSequence) {
+            Segment segment = segments.remove(0);
+            try {
+                segment.channel.close();
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        sync();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                for (Segment segment : segments) {
+                    segment.buffer.force();
+                    segment.channel.close();
+                }
+                ackBuffer.force();
+                ackChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void loadSegments() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> stream = Files.list(directory)) {
+            paths = stream.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path path : paths) {
+            String fileName = path.getFileName().toString();
+            long startSequence = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+            segments.add(Segment.open(path, startSequence, segmentSize));
+        }
+        if (segments.isEmpty()) {
+            current = createSegment(ackedSequence + 1);
+            nextSequence = current.startSequence;
+            return;
+        }
+        current = segments.get(segments.size() - 1);
+        nextSequence = current.startSequence;
+        int position = 0;
+        while (true) {
+            int bodyLength = readBodyLength(current.buffer, position);
+            if (bodyLength < 0) {
+                break;
+            }
+            nextSequence = current.buffer.getLong(position + LENGTH_SIZE + CRC_SIZE) + 1;
+            position += LENGTH_SIZE + CRC_SIZE + bodyLength;
+        }
+        current.position = position;
+    }
+
+    private void roll() {
+        current.buffer.force();
+        try {
+            current = createSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Segment createSegment(long startSequence) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", startSequence, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(path, startSequence, segmentSize);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * 读取并校验记录体长度
+     *
+     * @return 记录体长度，到达末尾或记录不完整时返回-1
+     */
+    private int readBodyLength(ByteBuffer buffer, int position) {
+        if (position + LENGTH_SIZE + CRC_SIZE + BODY_HEADER_SIZE > buffer.capacity()) {
+            return -1;
+        }
+        int bodyLength = buffer.getInt(position);
+        int bodyPosition = position + LENGTH_SIZE + CRC_SIZE;
+        if (bodyLength < BODY_HEADER_SIZE || bodyPosition + bodyLength > buffer.capacity()) {
+            return -1;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(bodyPosition, bodyLength));
+        return (int) crc.getValue() == buffer.getInt(position + LENGTH_SIZE) ? bodyLength : -1;
+    }
+
+    /**
+     * 重放事件消费者
+     *
+     * @author Ban Tenio
+     * @version 1.0
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * 消费事件
+         *
+         * @param sequence  事件序号
+         * @param eventName 事件名
+         * @param args      事件参数
+         */
+        void accept(long sequence, String eventName, Object[] args);
+    }
+
+    /**
+     * 分段文件
+     */
+    private static final class Segment {
+        final Path path;
+        final long startSequence;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int position;
+
+        private Segment(Path path, long startSequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.startSequence = startSequence;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long startSequence, int segmentSize) throws IOException {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(path, startSequence, channel, buffer);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package cn.bytengine.d.events.journal;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.internal.EventInvokerDispatcher;
+import cn.bytengine.d.events.internal.EventRouter;
+import cn.bytengine.d.events.internal.InvokerRegistration;
+import cn.bytengine.d.lang.AssertTools;
+
+import java.util.List;
+
+/**
+ * 先写事件日志再分发的事件分发器
+ * <p>
+ * 有调用器监听的事件先追加到{@link EventJournal}，交给代理分发器后确认。代理分发器为异步实现时，
+ * 确认发生在事件入队之后。启动时调用{@link #replay(EventRouter, EventExceptionHandler)}重放未确认事件。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class JournalEventInvokerDispatcher implements EventInvokerDispatcher {
+    private final EventJournal journal;
+    private final EventInvokerDispatcher delegate;
+
+    /**
+     * 构造器
+     *
+     * @param journal  事件日志
+     * @param delegate 实际执行分发的分发器
+     */
+    public JournalEventInvokerDispatcher(EventJournal journal, EventInvokerDispatcher delegate) {
+        AssertTools.notNull(journal, "EventJournal must not be null");
+        AssertTools.notNull(delegate, "EventInvokerDispatcher must not be null");
+        this.journal = journal;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        if (invokerRegistrations.isEmpty()) {
+            return;
+        }
+        long sequence = journal.append(eventName, args);
+        try {
+            delegate.dispatchEvent(invokerRegistrations, eventName, eventExceptionHandler, args);
+        } finally {
+            journal.ack(sequence);
+        }
+    }
+
+    /**
+     * 通过路由重放未确认事件，重放事件不会再次写入日志
+     *
+     * @param eventRouter           事件路由，应与事件总线使用的路由相同
+     * @param eventExceptionHandler 事件异常处理器
+     */
+    public void replay(EventRouter eventRouter, EventExceptionHandler eventExceptionHandler) {
+        journal.replay((sequence, eventName, args) ->
+                delegate.dispatchEvent(eventRouter.matching(eventName), eventName, eventExceptionHandler, args));
+    }
+
+    /**
+     * 获取事件日志
+     *
+     * @return 事件日志
+     */
+    public EventJournal getJournal() {
+        return journal;
+    }
+}
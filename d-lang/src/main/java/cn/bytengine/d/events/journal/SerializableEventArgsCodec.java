@@ -0,0 +1,43 @@
+package cn.bytengine.d.events.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 基于Java序列化的事件参数编解码器，要求事件参数实现{@link java.io.Serializable}
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class SerializableEventArgsCodec implements EventArgsCodec {
+    /**
+     * 单实例
+     */
+    public static final SerializableEventArgsCodec INSTANCE = new SerializableEventArgsCodec();
+
+    @Override
+    public byte[] encode(String eventName, Object[] args) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(args);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object[] decode(String eventName, byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Object[]) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
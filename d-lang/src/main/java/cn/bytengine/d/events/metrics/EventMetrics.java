@@ -0,0 +1,322 @@
+package cn.bytengine.d.events.metrics;
+
+import cn.bytengine.d.collection.WeakConcurrentMap;
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.RegisterOption;
+import cn.bytengine.d.events.internal.EventInvokerDispatcher;
+import cn.bytengine.d.fn.invoker.InvocationException;
+import cn.bytengine.d.fn.invoker.Invoker;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 事件总线统计
+ * <p>
+ * 按事件名和调用器记录发布次数、扇出数、调用耗时、异常次数和异步排队耗时，
+ * 计数使用{@link LongAdder}，耗时使用{@link LatencyHistogram}，记录过程无锁。
+ * 需要显式接入：
+ * </p>
+ * <ul>
+ * <li>{@link #instrument(EventInvokerDispatcher)} 包装分发器，记录发布次数、扇出数、分发耗时和异常次数</li>
+ * <li>{@link #timing()} 作为第一个注册选项，记录调用器调用次数和耗时</li>
+ * <li>{@link #async(Supplier)} 替代AsyncRegisterOption，额外记录异步排队耗时</li>
+ * </ul>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class EventMetrics implements EventMetricsMXBean {
+    private final Map<String, EventStats> eventStatsMap = new ConcurrentHashMap<>();
+
+    /**
+     * 包装分发器，记录发布次数、扇出数、分发耗时和异常次数
+     *
+     * @param delegate 被包装分发器
+     * @return 带统计的分发器
+     */
+    public EventInvokerDispatcher instrument(EventInvokerDispatcher delegate) {
+        return new MetricsEventInvokerDispatcher(this, delegate);
+    }
+
+    /**
+     * 记录调用器调用次数和耗时的注册选项，应作为第一个注册选项
+     *
+     * @return 注册选项
+     */
+    public RegisterOption timing() {
+        return new RegisterOption() {
+            @Override
+            public Invoker option(String eventName, Invoker invoker) {
+                return new TimedInvoker(invoker, handler(eventName, invoker));
+            }
+        };
+    }
+
+    /**
+     * 异步调用注册选项，记录从发布到开始执行的排队耗时
+     *
+     * @param executorServiceSupplier ExecutorService提供函数
+     * @return 注册选项
+     */
+    public RegisterOption async(Supplier<ExecutorService> executorServiceSupplier) {
+        return new RegisterOption() {
+            @Override
+            public Invoker option(String eventName, Invoker invoker) {
+                HandlerStats stats = handler(eventName, invoker);
+                return args -> {
+                    long enqueued = System.nanoTime();
+                    executorServiceSupplier.get().execute(() -> {
+                        stats.queueWait.record(System.nanoTime() - enqueued);
+                        try {
+                            invoker.invoke(args);
+                        } catch (Throwable e) {
+                            stats.errors.increment();
+                            throw new InvocationException(e);
+                        }
+                    });
+                    return null;
+                };
+            }
+        };
+    }
+
+    /**
+     * 注册到平台MBeanServer
+     *
+     * @param name MBean名称，对应ObjectName中的name属性
+     * @return 注册使用的ObjectName
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            ObjectName objectName = new ObjectName("cn.bytengine.d.events:type=EventMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Register EventMetrics MBean failed: " + name, e);
+        }
+    }
+
+    /**
+     * 获取指定事件统计快照
+     *
+     * @param eventName 事件名
+     * @return 统计快照，无统计时返回null
+     */
+    public EventStatsSnapshot snapshot(String eventName) {
+        EventStats stats = eventStatsMap.get(eventName);
+        return stats == null ? null : stats.snapshot(eventName);
+    }
+
+    @Override
+    public List<EventStatsSnapshot> getEvents() {
+        List<EventStatsSnapshot> snapshots = new ArrayList<>(eventStatsMap.size());
+        eventStatsMap.forEach((eventName, stats) -> snapshots.add(stats.snapshot(eventName)));
+        return snapshots;
+    }
+
+    /**
+     * 原地清零全部统计，保留已登记的事件和调用器，已注册调用器后续记录仍计入统计
+     */
+    @Override
+    public void reset() {
+        eventStatsMap.values().forEach(EventStats::reset);
+    }
+
+    EventStats event(String eventName) {
+        EventStats stats = eventStatsMap.get(eventName);
+        return stats != null ? stats : eventStatsMap.computeIfAbsent(eventName, key -> new EventStats());
+    }
+
+    HandlerStats handler(String eventName, Invoker invoker) {
+        return event(eventName).handler(invoker);
+    }
+
+    /**
+     * 记录调用次数和耗时的调用器，后续注册选项据此关联到原始调用器统计；
+     * 覆盖定长参数调用，开启统计不改变调用器的免数组调用路径
+     */
+    static final class TimedInvoker implements Invoker {
+        final Invoker delegate;
+        final HandlerStats stats;
+
+        TimedInvoker(Invoker delegate, HandlerStats stats) {
+            this.delegate = delegate;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke(args);
+            } finally {
+                record(start);
+            }
+        }
+
+        @Override
+        public Object invoke0() throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke0();
+            } finally {
+                record(start);
+            }
+        }
+
+        @Override
+        public Object invoke1(Object arg1) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke1(arg1);
+            } finally {
+                record(start);
+            }
+        }
+
+        @Override
+        public Object invoke2(Object arg1, Object arg2) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke2(arg1, arg2);
+            } finally {
+                record(start);
+            }
+        }
+
+        @Override
+        public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke3(arg1, arg2, arg3);
+            } finally {
+                record(start);
+            }
+        }
+
+        @Override
+        public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return delegate.invoke4(arg1, arg2, arg3, arg4);
+            } finally {
+                record(start);
+            }
+        }
+
+        private void record(long start) {
+            stats.latency.record(System.nanoTime() - start);
+            stats.invocations.increment();
+        }
+    }
+
+    /**
+     * 事件统计
+     */
+    static final class EventStats {
+        volatile long startNanos = System.nanoTime();
+        final LongAdder published = new LongAdder();
+        final LongAdder fanOut = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram dispatchLatency = new LatencyHistogram();
+        /**
+         * 调用器统计，弱引用调用器，调用器注销并被回收后统计随之移除
+         */
+        final WeakConcurrentMap<Invoker, HandlerStats> handlerStatsMap = new WeakConcurrentMap<>();
+        volatile ErrorCountingHandler lastErrorHandler;
+
+        HandlerStats handler(Invoker invoker) {
+            if (invoker instanceof TimedInvoker) {
+                return ((TimedInvoker) invoker).stats;
+            }
+            HandlerStats stats = handlerStatsMap.get(invoker);
+            return stats != null ? stats : handlerStatsMap.computeIfAbsent(invoker, key -> new HandlerStats());
+        }
+
+        void reset() {
+            published.reset();
+            fanOut.reset();
+            errors.reset();
+            dispatchLatency.reset();
+            handlerStatsMap.values().forEach(HandlerStats::reset);
+            startNanos = System.nanoTime();
+        }
+
+        EventExceptionHandler errorHandler(EventExceptionHandler eventExceptionHandler) {
+            ErrorCountingHandler handler = lastErrorHandler;
+            if (handler == null || handler.delegate != eventExceptionHandler) {
+                handler = new ErrorCountingHandler(this, eventExceptionHandler);
+                lastErrorHandler = handler;
+            }
+            return handler;
+        }
+
+        EventStatsSnapshot snapshot(String eventName) {
+            long publishCount = published.sum();
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000D;
+            List<HandlerStatsSnapshot> handlers = new ArrayList<>(handlerStatsMap.size());
+            handlerStatsMap.forEach((invoker, stats) -> {
+                if (invoker != null) {
+                    handlers.add(stats.snapshot(String.valueOf(invoker)));
+                }
+            });
+            return new EventStatsSnapshot(eventName,
+                    publishCount,
+                    seconds > 0 ? publishCount / seconds : 0D,
+                    fanOut.sum(),
+                    errors.sum(),
+                    dispatchLatency.snapshot(),
+                    handlers);
+        }
+    }
+
+    /**
+     * 调用器统计
+     */
+    static final class HandlerStats {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LatencyHistogram queueWait = new LatencyHistogram();
+
+        void reset() {
+            invocations.reset();
+            errors.reset();
+            latency.reset();
+            queueWait.reset();
+        }
+
+        HandlerStatsSnapshot snapshot(String handler) {
+            return new HandlerStatsSnapshot(handler, invocations.sum(), errors.sum(), latency.snapshot(), queueWait.snapshot());
+        }
+    }
+
+    /**
+     * 记录异常次数的事件异常处理器
+     */
+    static final class ErrorCountingHandler implements EventExceptionHandler {
+        final EventStats stats;
+        final EventExceptionHandler delegate;
+
+        ErrorCountingHandler(EventStats stats, EventExceptionHandler delegate) {
+            this.stats = stats;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handle(Throwable e, String eventName, Invoker invoker, Object[] args) {
+            stats.errors.increment();
+            stats.handler(invoker).errors.increment();
+            delegate.handle(e, eventName, invoker, args);
+        }
+    }
+}
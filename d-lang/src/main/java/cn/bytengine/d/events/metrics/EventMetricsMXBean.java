@@ -0,0 +1,23 @@
+package cn.bytengine.d.events.metrics;
+
+import java.util.List;
+
+/**
+ * 事件统计JMX接口
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public interface EventMetricsMXBean {
+    /**
+     * 获取全部事件统计快照
+     *
+     * @return 事件统计快照列表
+     */
+    List<EventStatsSnapshot> getEvents();
+
+    /**
+     * 清空统计
+     */
+    void reset();
+}
@@ -0,0 +1,124 @@
+package cn.bytengine.d.events.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.List;
+
+/**
+ * 单个事件统计快照
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class EventStatsSnapshot {
+    private final String eventName;
+    private final long publishCount;
+    private final double publishRate;
+    private final long fanOutCount;
+    private final long errorCount;
+    private final HistogramSnapshot dispatchLatency;
+    private final List<HandlerStatsSnapshot> handlers;
+
+    /**
+     * 构造器
+     *
+     * @param eventName       事件名
+     * @param publishCount    发布次数
+     * @param publishRate     每秒发布次数
+     * @param fanOutCount     累计分发调用器数
+     * @param errorCount      异常次数
+     * @param dispatchLatency 单次发布分发耗时
+     * @param handlers        调用器统计
+     */
+    @ConstructorProperties({"eventName", "publishCount", "publishRate", "fanOutCount", "errorCount", "dispatchLatency", "handlers"})
+    public EventStatsSnapshot(String eventName,
+                              long publishCount,
+                              double publishRate,
+                              long fanOutCount,
+                              long errorCount,
+                              HistogramSnapshot dispatchLatency,
+                              List<HandlerStatsSnapshot> handlers) {
+        this.eventName = eventName;
+        this.publishCount = publishCount;
+        this.publishRate = publishRate;
+        this.fanOutCount = fanOutCount;
+        this.errorCount = errorCount;
+        this.dispatchLatency = dispatchLatency;
+        this.handlers = handlers;
+    }
+
+    /**
+     * 获取事件名
+     *
+     * @return 事件名
+     */
+    public String getEventName() {
+        return eventName;
+    }
+
+    /**
+     * 获取发布次数
+     *
+     * @return 发布次数
+     */
+    public long getPublishCount() {
+        return publishCount;
+    }
+
+    /**
+     * 获取统计开始以来的每秒发布次数
+     *
+     * @return 每秒发布次数
+     */
+    public double getPublishRate() {
+        return publishRate;
+    }
+
+    /**
+     * 获取累计分发调用器数
+     *
+     * @return 累计分发调用器数
+     */
+    public long getFanOutCount() {
+        return fanOutCount;
+    }
+
+    /**
+     * 获取异常次数
+     *
+     * @return 异常次数
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 获取单次发布分发耗时
+     *
+     * @return 分发耗时直方图快照
+     */
+    public HistogramSnapshot getDispatchLatency() {
+        return dispatchLatency;
+    }
+
+    /**
+     * 获取调用器统计
+     *
+     * @return 调用器统计快照列表
+     */
+    public List<HandlerStatsSnapshot> getHandlers() {
+        return handlers;
+    }
+
+    @Override
+    public String toString() {
+        return "EventStatsSnapshot{" +
+                "eventName='" + eventName + '\'' +
+                ", publishCount=" + publishCount +
+                ", publishRate=" + publishRate +
+                ", fanOutCount=" + fanOutCount +
+                ", errorCount=" + errorCount +
+                ", dispatchLatency=" + dispatchLatency +
+                ", handlers=" + handlers +
+                '}';
+    }
+}
@@ -0,0 +1,95 @@
+package cn.bytengine.d.events.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * 单个事件调用器统计快照
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class HandlerStatsSnapshot {
+    private final String handler;
+    private final long invocationCount;
+    private final long errorCount;
+    private final HistogramSnapshot latency;
+    private final HistogramSnapshot queueWait;
+
+    /**
+     * 构造器
+     *
+     * @param handler         调用器描述
+     * @param invocationCount 调用次数
+     * @param errorCount      异常次数
+     * @param latency         调用耗时
+     * @param queueWait       异步排队耗时
+     */
+    @ConstructorProperties({"handler", "invocationCount", "errorCount", "latency", "queueWait"})
+    public HandlerStatsSnapshot(String handler,
+                                long invocationCount,
+                                long errorCount,
+                                HistogramSnapshot latency,
+                                HistogramSnapshot queueWait) {
+        this.handler = handler;
+        this.invocationCount = invocationCount;
+        this.errorCount = errorCount;
+        this.latency = latency;
+        this.queueWait = queueWait;
+    }
+
+    /**
+     * 获取调用器描述
+     *
+     * @return 调用器描述
+     */
+    public String getHandler() {
+        return handler;
+    }
+
+    /**
+     * 获取调用次数
+     *
+     * @return 调用次数
+     */
+    public long getInvocationCount() {
+        return invocationCount;
+    }
+
+    /**
+     * 获取异常次数
+     *
+     * @return 异常次数
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * 获取调用耗时
+     *
+     * @return 调用耗时直方图快照
+     */
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * 获取异步排队耗时
+     *
+     * @return 排队耗时直方图快照
+     */
+    public HistogramSnapshot getQueueWait() {
+        return queueWait;
+    }
+
+    @Override
+    public String toString() {
+        return "HandlerStatsSnapshot{" +
+                "handler='" + handler + '\'' +
+                ", invocationCount=" + invocationCount +
+                ", errorCount=" + errorCount +
+                ", latency=" + latency +
+                ", queueWait=" + queueWait +
+                '}';
+    }
+}
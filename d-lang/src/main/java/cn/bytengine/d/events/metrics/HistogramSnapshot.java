@@ -0,0 +1,104 @@
+package cn.bytengine.d.events.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * 耗时直方图快照，单位纳秒
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class HistogramSnapshot {
+    private final long count;
+    private final long mean;
+    private final long max;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+
+    /**
+     * 构造器
+     *
+     * @param count 记录次数
+     * @param mean  平均值
+     * @param max   最大值
+     * @param p50   50百分位
+     * @param p90   90百分位
+     * @param p99   99百分位
+     */
+    @ConstructorProperties({"count", "mean", "max", "p50", "p90", "p99"})
+    public HistogramSnapshot(long count, long mean, long max, long p50, long p90, long p99) {
+        this.count = count;
+        this.mean = mean;
+        this.max = max;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+    }
+
+    /**
+     * 获取记录次数
+     *
+     * @return 记录次数
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 获取平均值
+     *
+     * @return 平均值
+     */
+    public long getMean() {
+        return mean;
+    }
+
+    /**
+     * 获取最大值
+     *
+     * @return 最大值
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * 获取50百分位
+     *
+     * @return 50百分位
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * 获取90百分位
+     *
+     * @return 90百分位
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * 获取99百分位
+     *
+     * @return 99百分位
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSnapshot{" +
+                "count=" + count +
+                ", mean=" + mean +
+                ", max=" + max +
+                ", p50=" + p50 +
+                ", p90=" + p90 +
+                ", p99=" + p99 +
+                '}';
+    }
+}
@@ -0,0 +1,94 @@
+package cn.bytengine.d.events.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 无锁耗时直方图
+ * <p>
+ * 按纳秒值的2的幂划分64个桶，每个桶使用{@link LongAdder}分段计数，记录过程无锁且不分配对象；
+ * 百分位取所在桶上界，精度为2倍以内
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public class LatencyHistogram {
+    private static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 创建空直方图
+     */
+    public LatencyHistogram() {
+        for (int idx = 0; idx < BUCKET_COUNT; idx++) {
+            buckets[idx] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 纳秒数
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        buckets[BUCKET_COUNT - 1 - Long.numberOfLeadingZeros(nanos | 1L)].increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * 清空记录
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * 生成当前快照
+     *
+     * @return 直方图快照
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long sum = 0;
+        for (int idx = 0; idx < BUCKET_COUNT; idx++) {
+            counts[idx] = buckets[idx].sum();
+            sum += counts[idx];
+        }
+        long maxValue = max.get();
+        return new HistogramSnapshot(
+                sum,
+                sum == 0 ? 0 : total.sum() / sum,
+                maxValue,
+                percentile(counts, sum, 0.50, maxValue),
+                percentile(counts, sum, 0.90, maxValue),
+                percentile(counts, sum, 0.99, maxValue));
+    }
+
+    private static long percentile(long[] counts, long sum, double quantile, long maxValue) {
+        if (sum == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(sum * quantile);
+        long seen = 0;
+        for (int idx = 0; idx < counts.length; idx++) {
+            seen += counts[idx];
+            if (seen >= rank) {
+                long upper = idx >= BUCKET_COUNT - 2 ? Long.MAX_VALUE : (1L << (idx + 1)) - 1;
+                return Math.min(upper, maxValue);
+            }
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,118 @@
+package cn.bytengine.d.events.metrics;
+
+import cn.bytengine.d.events.EventExceptionHandler;
+import cn.bytengine.d.events.internal.EventInvokerDispatcher;
+import cn.bytengine.d.events.internal.InvokerRegistration;
+
+import java.util.List;
+
+/**
+ * 带统计的事件分发器，记录发布次数、扇出数、分发耗时和异常次数
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see EventMetrics#instrument(EventInvokerDispatcher)
+ */
+class MetricsEventInvokerDispatcher implements EventInvokerDispatcher {
+    private final EventMetrics metrics;
+    private final EventInvokerDispatcher delegate;
+
+    MetricsEventInvokerDispatcher(EventMetrics metrics, EventInvokerDispatcher delegate) {
+        this.metrics = metrics;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void dispatchEvent(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              Object... args) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), args);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void dispatchEvent0(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent0(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler));
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void dispatchEvent1(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent1(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), arg1);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void dispatchEvent2(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent2(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), arg1, arg2);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void dispatchEvent3(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent3(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), arg1, arg2, arg3);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    @Override
+    public void dispatchEvent4(List<InvokerRegistration> invokerRegistrations,
+                               String eventName,
+                               EventExceptionHandler eventExceptionHandler,
+                               Object arg1,
+                               Object arg2,
+                               Object arg3,
+                               Object arg4) {
+        EventMetrics.EventStats stats = before(invokerRegistrations, eventName);
+        long start = System.nanoTime();
+        delegate.dispatchEvent4(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), arg1, arg2, arg3, arg4);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    /**
+     * 批量分发交由被包装分发器整批处理，发布次数按事件数记录，分发耗时按整批记录一次
+     */
+    @Override
+    public void dispatchBatch(List<InvokerRegistration> invokerRegistrations,
+                              String eventName,
+                              EventExceptionHandler eventExceptionHandler,
+                              List<Object[]> argsList) {
+        EventMetrics.EventStats stats = metrics.event(eventName);
+        stats.published.add(argsList.size());
+        stats.fanOut.add((long) invokerRegistrations.size() * argsList.size());
+        long start = System.nanoTime();
+        delegate.dispatchBatch(invokerRegistrations, eventName, stats.errorHandler(eventExceptionHandler), argsList);
+        stats.dispatchLatency.record(System.nanoTime() - start);
+    }
+
+    private EventMetrics.EventStats before(List<InvokerRegistration> invokerRegistrations, String eventName) {
+        EventMetrics.EventStats stats = metrics.event(eventName);
+        stats.published.increment();
+        stats.fanOut.add(invokerRegistrations.size());
+        return stats;
+    }
+}
@@ -0,0 +1,637 @@
+package cn.bytengine.d.fn.invoker;
+
+import cn.bytengine.d.lang.AssertTools;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 直接调用器工厂
+ * <p>
+ * 通过{@link LambdaMetafactory}为反射方法生成{@link Invoker}实现类，生成类以精确参数类型直接调用目标方法，
+ * 参数只做类型转换和拆箱，不经过反射调用；实例方法的第一个参数为方法接收者。
+ * 参数个数（含接收者）超过{@value #MAX_DIRECT_ARITY}、参数类型不可访问等无法生成的情况，
+ * 退化为展开参数数组的MethodHandle调用器。
+ * </p>
+ * <p>
+ * 生成的调用器工厂按方法缓存，同一方法只生成一次实现类；缓存挂在方法声明类的{@link ClassValue}上，
+ * 不强引用声明类及其类加载器，类卸载后缓存随之回收。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see InvokerFactory#fromMethod(Method)
+ * @see InvokerFactory#fromMethodHandle(MethodHandle)
+ */
+public abstract class DirectInvokers {
+    /**
+     * 直接调用支持的最大参数个数（含实例方法接收者）
+     */
+    public static final int MAX_DIRECT_ARITY = 5;
+
+    private static final java.lang.invoke.MethodHandles.Lookup LOOKUP = java.lang.invoke.MethodHandles.lookup();
+    private static final Class<?>[] CALL_TYPES = {
+            Call0.class, Call1.class, Call2.class, Call3.class, Call4.class, Call5.class
+    };
+    private static final Class<?>[] RUN_TYPES = {
+            Run0.class, Run1.class, Run2.class, Run3.class, Run4.class, Run5.class
+    };
+    private static final ClassValue<ConcurrentMap<Method, Invoker>> UNBOUND_INVOKER_CACHE = new ClassValue<ConcurrentMap<Method, Invoker>>() {
+        @Override
+        protected ConcurrentMap<Method, Invoker> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>(8);
+        }
+    };
+    private static final ClassValue<ConcurrentMap<Method, Optional<MethodHandle>>> BOUND_FACTORY_CACHE = new ClassValue<ConcurrentMap<Method, Optional<MethodHandle>>>() {
+        @Override
+        protected ConcurrentMap<Method, Optional<MethodHandle>> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>(8);
+        }
+    };
+
+    private DirectInvokers() {
+    }
+
+    /**
+     * 根据反射方法创建直接调用器，静态方法参数依次为方法参数，实例方法第一个参数为接收者
+     *
+     * @param method 反射方法
+     * @return 调用器
+     * @throws ReflectionOperationException 方法不可访问
+     */
+    public static Invoker fromMethod(Method method) {
+        AssertTools.notNull(method, "Method must not be null");
+        return UNBOUND_INVOKER_CACHE.get(method.getDeclaringClass()).computeIfAbsent(method, key -> {
+            MethodHandle factory = unboundFactory(key);
+            if (factory != null) {
+                try {
+                    return (Invoker) factory.invoke();
+                } catch (Throwable ex) {
+                    throw new ReflectionOperationException(ex);
+                }
+            }
+            return spreadInvoker(unreflect(key));
+        });
+    }
+
+    /**
+     * 根据实例方法和接收者创建直接调用器，调用参数依次为方法参数
+     *
+     * @param method 实例方法
+     * @param target 方法接收者
+     * @return 调用器
+     * @throws ReflectionOperationException 方法不可访问
+     */
+    public static Invoker fromMethod(Method method, Object target) {
+        AssertTools.notNull(method, "Method must not be null");
+        AssertTools.isFalse(Modifier.isStatic(method.getModifiers()), "Method must not be static");
+        AssertTools.isTrue(method.getDeclaringClass().isInstance(target), "target must be instance of method declaring class");
+        MethodHandle factory = BOUND_FACTORY_CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, key -> Optional.ofNullable(metafactory(key, key.getParameterTypes(), true)))
+                .orElse(null);
+        if (factory != null) {
+            try {
+                return (Invoker) factory.invoke(target);
+            } catch (Throwable ex) {
+                throw new ReflectionOperationException(ex);
+            }
+        }
+        return spreadInvoker(unreflect(method).bindTo(target));
+    }
+
+    /**
+     * 根据MethodHandle创建调用器
+     * <p>
+     * 可解析为直接方法句柄的MethodHandle生成直接调用器，其他MethodHandle（绑定、适配后的句柄等）
+     * 生成展开参数数组的调用器。
+     * </p>
+     *
+     * @param methodHandle MethodHandle
+     * @return 调用器
+     */
+    public static Invoker fromMethodHandle(MethodHandle methodHandle) {
+        return fromMethodHandle(LOOKUP, methodHandle);
+    }
+
+    /**
+     * 根据MethodHandle创建调用器，使用指定Lookup解析直接方法句柄
+     *
+     * @param lookup       有权访问方法句柄目标的Lookup
+     * @param methodHandle MethodHandle
+     * @return 调用器
+     */
+    public static Invoker fromMethodHandle(java.lang.invoke.MethodHandles.Lookup lookup, MethodHandle methodHandle) {
+        AssertTools.notNull(lookup, "Lookup must not be null");
+        AssertTools.notNull(methodHandle, "MethodHandle must not be null");
+        Method method = revealMethod(lookup, methodHandle);
+        if (method != null && !methodHandle.isVarargsCollector()) {
+            return fromMethod(method);
+        }
+        return spreadInvoker(methodHandle);
+    }
+
+    private static Method revealMethod(java.lang.invoke.MethodHandles.Lookup lookup, MethodHandle methodHandle) {
+        try {
+            MethodHandleInfo info = lookup.revealDirect(methodHandle);
+            switch (info.getReferenceKind()) {
+                case MethodHandleInfo.REF_invokeStatic:
+                case MethodHandleInfo.REF_invokeVirtual:
+                case MethodHandleInfo.REF_invokeInterface:
+                    return info.reflectAs(Method.class, lookup);
+                default:
+                    return null;
+            }
+        } catch (IllegalArgumentException | SecurityException | ClassCastException ex) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unboundFactory(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        Class<?>[] samParameterTypes = new Class[parameterTypes.length + (isStatic ? 0 : 1)];
+        int offset = 0;
+        if (!isStatic) {
+            samParameterTypes[offset++] = method.getDeclaringClass();
+        }
+        for (Class<?> parameterType : parameterTypes) {
+            samParameterTypes[offset++] = parameterType;
+        }
+        return metafactory(method, samParameterTypes, false);
+    }
+
+    /**
+     * 生成调用器实现类，返回创建调用器实例的工厂MethodHandle，无法生成时返回null
+     *
+     * @param method            目标方法
+     * @param samParameterTypes 调用器参数对应的目标类型（不含绑定的接收者）
+     * @param bound             是否绑定接收者
+     * @return 调用器工厂
+     */
+    private static MethodHandle metafactory(Method method, Class<?>[] samParameterTypes, boolean bound) {
+        if (samParameterTypes.length > MAX_DIRECT_ARITY || !isDirectAccessible(method)) {
+            return null;
+        }
+        java.lang.invoke.MethodHandles.Lookup caller = callerLookup(method);
+        if (caller == null) {
+            return null;
+        }
+        boolean isVoid = method.getReturnType() == void.class;
+        Class<?> invokerType = (isVoid ? RUN_TYPES : CALL_TYPES)[samParameterTypes.length];
+        Class<?>[] erasedTypes = new Class[samParameterTypes.length];
+        Class<?>[] instantiatedTypes = new Class[samParameterTypes.length];
+        for (int idx = 0; idx < samParameterTypes.length; idx++) {
+            erasedTypes[idx] = Object.class;
+            instantiatedTypes[idx] = boxedType(samParameterTypes[idx]);
+        }
+        Class<?> samReturnType = isVoid ? void.class : Object.class;
+        MethodType samType = MethodType.methodType(samReturnType, erasedTypes);
+        MethodType instantiatedType = MethodType.methodType(isVoid ? void.class : boxedType(method.getReturnType()), instantiatedTypes);
+        MethodType factoryType = bound
+                ? MethodType.methodType(invokerType, method.getDeclaringClass())
+                : MethodType.methodType(invokerType);
+        try {
+            MethodHandle implementation = caller.unreflect(method);
+            CallSite callSite = LambdaMetafactory.metafactory(caller,
+                    isVoid ? "run" : "call",
+                    factoryType,
+                    samType,
+                    implementation,
+                    instantiatedType);
+            return callSite.getTarget();
+        } catch (Throwable ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 优先使用本类Lookup生成实现类；目标方法对本类不可访问，或签名中的类型对本类类加载器不可见
+     * （实现类定义在本类类加载器中会无法链接，并使目标类加载器无法卸载）时，使用目标类的私有Lookup
+     */
+    private static java.lang.invoke.MethodHandles.Lookup callerLookup(Method method) {
+        if (Modifier.isPublic(method.getModifiers()) && isPublicType(method.getDeclaringClass()) && isSignatureVisible(method)) {
+            return LOOKUP;
+        }
+        Class<?> declaringClass = method.getDeclaringClass();
+        try {
+            if (declaringClass.getClassLoader() == null
+                    || Class.forName(Call0.class.getName(), false, declaringClass.getClassLoader()) != Call0.class) {
+                return null;
+            }
+            return java.lang.invoke.MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+        } catch (ClassNotFoundException | IllegalAccessException | SecurityException ex) {
+            return null;
+        }
+    }
+
+    private static boolean isSignatureVisible(Method method) {
+        ClassLoader loader = DirectInvokers.class.getClassLoader();
+        if (!isVisible(loader, method.getDeclaringClass()) || !isVisible(loader, method.getReturnType())) {
+            return false;
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(loader, parameterType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(ClassLoader loader, Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        ClassLoader typeLoader = type.getClassLoader();
+        if (type.isPrimitive() || typeLoader == null || typeLoader == loader) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 生成类需要对参数类型和返回类型做类型转换，非公开类型无法保证可访问
+     */
+    private static boolean isDirectAccessible(Method method) {
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isPublicType(parameterType)) {
+                return false;
+            }
+        }
+        return isPublicType(method.getReturnType())
+                && (Modifier.isStatic(method.getModifiers()) || isPublicType(method.getDeclaringClass()));
+    }
+
+    private static boolean isPublicType(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> boxedType(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return LOOKUP.unreflect(method);
+        } catch (IllegalAccessException ex) {
+            try {
+                method.setAccessible(true);
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new ReflectionOperationException(e);
+            }
+        }
+    }
+
+    /**
+     * 展开参数数组调用MethodHandle的调用器
+     *
+     * @param methodHandle MethodHandle
+     * @return 调用器
+     */
+    private static Invoker spreadInvoker(MethodHandle methodHandle) {
+        final MethodHandle spreader = methodHandle.asFixedArity()
+                .asSpreader(Object[].class, methodHandle.type().parameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        return args -> (Object) spreader.invokeExact(args);
+    }
+
+    // region direct invoker types
+
+    /**
+     * 无参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call0 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call() throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call();
+        }
+
+        @Override
+        default Object invoke0() throws Throwable {
+            return call();
+        }
+    }
+
+    /**
+     * 1个参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call1 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call(Object arg1) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call(args[0]);
+        }
+
+        @Override
+        default Object invoke1(Object arg1) throws Throwable {
+            return call(arg1);
+        }
+    }
+
+    /**
+     * 2个参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call2 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call(Object arg1, Object arg2) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call(args[0], args[1]);
+        }
+
+        @Override
+        default Object invoke2(Object arg1, Object arg2) throws Throwable {
+            return call(arg1, arg2);
+        }
+    }
+
+    /**
+     * 3个参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call3 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call(Object arg1, Object arg2, Object arg3) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call(args[0], args[1], args[2]);
+        }
+
+        @Override
+        default Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+            return call(arg1, arg2, arg3);
+        }
+    }
+
+    /**
+     * 4个参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call4 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @param arg4 参数4
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call(args[0], args[1], args[2], args[3]);
+        }
+
+        @Override
+        default Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+            return call(arg1, arg2, arg3, arg4);
+        }
+    }
+
+    /**
+     * 5个参数有返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Call5 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @param arg4 参数4
+         * @param arg5 参数5
+         * @return 返回值
+         * @throws Throwable 目标方法异常
+         */
+        Object call(Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            return call(args[0], args[1], args[2], args[3], args[4]);
+        }
+    }
+
+    /**
+     * 无参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run0 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @throws Throwable 目标方法异常
+         */
+        void run() throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run();
+            return null;
+        }
+
+        @Override
+        default Object invoke0() throws Throwable {
+            run();
+            return null;
+        }
+    }
+
+    /**
+     * 1个参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run1 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @throws Throwable 目标方法异常
+         */
+        void run(Object arg1) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run(args[0]);
+            return null;
+        }
+
+        @Override
+        default Object invoke1(Object arg1) throws Throwable {
+            run(arg1);
+            return null;
+        }
+    }
+
+    /**
+     * 2个参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run2 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @throws Throwable 目标方法异常
+         */
+        void run(Object arg1, Object arg2) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run(args[0], args[1]);
+            return null;
+        }
+
+        @Override
+        default Object invoke2(Object arg1, Object arg2) throws Throwable {
+            run(arg1, arg2);
+            return null;
+        }
+    }
+
+    /**
+     * 3个参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run3 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @throws Throwable 目标方法异常
+         */
+        void run(Object arg1, Object arg2, Object arg3) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run(args[0], args[1], args[2]);
+            return null;
+        }
+
+        @Override
+        default Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+            run(arg1, arg2, arg3);
+            return null;
+        }
+    }
+
+    /**
+     * 4个参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run4 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @param arg4 参数4
+         * @throws Throwable 目标方法异常
+         */
+        void run(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run(args[0], args[1], args[2], args[3]);
+            return null;
+        }
+
+        @Override
+        default Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+            run(arg1, arg2, arg3, arg4);
+            return null;
+        }
+    }
+
+    /**
+     * 5个参数无返回值直接调用器
+     */
+    @FunctionalInterface
+    public interface Run5 extends Invoker {
+        /**
+         * 调用目标方法
+         *
+         * @param arg1 参数1
+         * @param arg2 参数2
+         * @param arg3 参数3
+         * @param arg4 参数4
+         * @param arg5 参数5
+         * @throws Throwable 目标方法异常
+         */
+        void run(Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) throws Throwable;
+
+        @Override
+        default Object invoke(Object[] args) throws Throwable {
+            run(args[0], args[1], args[2], args[3], args[4]);
+            return null;
+        }
+    }
+
+    // endregion
+}
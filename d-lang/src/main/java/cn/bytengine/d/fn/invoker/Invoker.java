@@ -5,11 +5,20 @@ package cn.bytengine.d.fn.invoker;
  * <p>
  * 使用场景中，封装某方法调用
  * </p>
+ * <p>
+ * invoke0-invoke4为固定参数个数的快速调用路径，默认实现会组装参数数组后调用{@link #invoke(Object[])}，
+ * 实现类可直接覆盖以避免参数数组分配
+ * </p>
  *
  * @author Ban Tenio
  * @version 1.0
  */
 public interface Invoker {
+    /**
+     * 空参数列表
+     */
+    Object[] EMPTY_ARGS = new Object[0];
+
     /**
      * 调用封装逻辑
      *
@@ -18,4 +27,64 @@ public interface Invoker {
      * @throws Throwable 调用产生的异常
      */
     Object invoke(Object[] args) throws Throwable;
+
+    /**
+     * 无参数调用
+     *
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    default Object invoke0() throws Throwable {
+        return invoke(EMPTY_ARGS);
+    }
+
+    /**
+     * 1个参数调用
+     *
+     * @param arg1 参数1
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    default Object invoke1(Object arg1) throws Throwable {
+        return invoke(new Object[]{arg1});
+    }
+
+    /**
+     * 2个参数调用
+     *
+     * @param arg1 参数1
+     * @param arg2 参数2
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    default Object invoke2(Object arg1, Object arg2) throws Throwable {
+        return invoke(new Object[]{arg1, arg2});
+    }
+
+    /**
+     * 3个参数调用
+     *
+     * @param arg1 参数1
+     * @param arg2 参数2
+     * @param arg3 参数3
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    default Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+        return invoke(new Object[]{arg1, arg2, arg3});
+    }
+
+    /**
+     * 4个参数调用
+     *
+     * @param arg1 参数1
+     * @param arg2 参数2
+     * @param arg3 参数3
+     * @param arg4 参数4
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    default Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return invoke(new Object[]{arg1, arg2, arg3, arg4});
+    }
 }
@@ -4,7 +4,9 @@ import cn.bytengine.d.fn.Consumers;
 import cn.bytengine.d.fn.Functions;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -25,6 +27,52 @@ public interface InvokerFactory {
      */
     Invoker create(Serializable serializable);
 
+    /**
+     * 根据反射方法创建直接调用器，静态方法参数依次为方法参数，实例方法第一个参数为接收者
+     *
+     * @param method 反射方法
+     * @return 调用器
+     * @see DirectInvokers#fromMethod(Method)
+     */
+    static Invoker fromMethod(Method method) {
+        return DirectInvokers.fromMethod(method);
+    }
+
+    /**
+     * 根据实例方法和接收者创建直接调用器，调用参数依次为方法参数
+     *
+     * @param method 实例方法
+     * @param target 方法接收者
+     * @return 调用器
+     * @see DirectInvokers#fromMethod(Method, Object)
+     */
+    static Invoker fromMethod(Method method, Object target) {
+        return DirectInvokers.fromMethod(method, target);
+    }
+
+    /**
+     * 根据MethodHandle创建调用器，直接方法句柄生成直接调用器
+     *
+     * @param methodHandle MethodHandle
+     * @return 调用器
+     * @see DirectInvokers#fromMethodHandle(MethodHandle)
+     */
+    static Invoker fromMethodHandle(MethodHandle methodHandle) {
+        return DirectInvokers.fromMethodHandle(methodHandle);
+    }
+
+    /**
+     * 根据MethodHandle创建调用器，使用指定Lookup解析直接方法句柄
+     *
+     * @param lookup       有权访问方法句柄目标的Lookup
+     * @param methodHandle MethodHandle
+     * @return 调用器
+     * @see DirectInvokers#fromMethodHandle(java.lang.invoke.MethodHandles.Lookup, MethodHandle)
+     */
+    static Invoker fromMethodHandle(java.lang.invoke.MethodHandles.Lookup lookup, MethodHandle methodHandle) {
+        return DirectInvokers.fromMethodHandle(lookup, methodHandle);
+    }
+
     // region consumer functions
 
     /**
@@ -34,9 +82,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static Invoker consumer0Invoker(Consumers.Consumer0 consumer) {
-        return args -> {
-            consumer.accept();
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept();
+                return null;
+            }
+
+            @Override
+            public Object invoke0() throws Throwable {
+                consumer.accept();
+                return null;
+            }
         };
     }
 
@@ -47,9 +104,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static Invoker consumer0InvokerWithThrow(Consumers.Consumer0Throws consumer) {
-        return args -> {
-            consumer.accept();
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept();
+                return null;
+            }
+
+            @Override
+            public Object invoke0() throws Throwable {
+                consumer.accept();
+                return null;
+            }
         };
     }
 
@@ -61,9 +127,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1> Invoker consumer1Invoker(Consumers.Consumer1<T1> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0]);
+                return null;
+            }
+
+            @Override
+            public Object invoke1(Object arg1) throws Throwable {
+                consumer.accept((T1) arg1);
+                return null;
+            }
         };
     }
 
@@ -75,9 +150,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1> Invoker consumer1InvokerWithThrow(Consumers.Consumer1Throws<T1> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0]);
+                return null;
+            }
+
+            @Override
+            public Object invoke1(Object arg1) throws Throwable {
+                consumer.accept((T1) arg1);
+                return null;
+            }
         };
     }
 
@@ -90,9 +174,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2> Invoker consumer2Invoker(Consumers.Consumer2<T1, T2> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1]);
+                return null;
+            }
+
+            @Override
+            public Object invoke2(Object arg1, Object arg2) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2);
+                return null;
+            }
         };
     }
 
@@ -105,9 +198,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2> Invoker consumer2InvokerWithThrow(Consumers.Consumer2Throws<T1, T2> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1]);
+                return null;
+            }
+
+            @Override
+            public Object invoke2(Object arg1, Object arg2) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2);
+                return null;
+            }
         };
     }
 
@@ -121,9 +223,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3> Invoker consumer3Invoker(Consumers.Consumer3<T1, T2, T3> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1], (T3) args[2]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1], (T3) args[2]);
+                return null;
+            }
+
+            @Override
+            public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2, (T3) arg3);
+                return null;
+            }
         };
     }
 
@@ -137,9 +248,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3> Invoker consumer3InvokerWithThrow(Consumers.Consumer3Throws<T1, T2, T3> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1], (T3) args[2]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1], (T3) args[2]);
+                return null;
+            }
+
+            @Override
+            public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2, (T3) arg3);
+                return null;
+            }
         };
     }
 
@@ -154,9 +274,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, T4> Invoker consumer4Invoker(Consumers.Consumer4<T1, T2, T3, T4> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+                return null;
+            }
+
+            @Override
+            public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2, (T3) arg3, (T4) arg4);
+                return null;
+            }
         };
     }
 
@@ -171,9 +300,18 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, T4> Invoker consumer4InvokerWithThrow(Consumers.Consumer4Throws<T1, T2, T3, T4> consumer) {
-        return args -> {
-            consumer.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
-            return null;
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                consumer.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+                return null;
+            }
+
+            @Override
+            public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+                consumer.accept((T1) arg1, (T2) arg2, (T3) arg3, (T4) arg4);
+                return null;
+            }
         };
     }
 
@@ -534,7 +672,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, R> Invoker function1Invoker(Functions.Function1<T1, R> function) {
-        return args -> function.apply((T1) args[0]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0]);
+            }
+
+            @Override
+            public Object invoke1(Object arg1) throws Throwable {
+                return function.apply((T1) arg1);
+            }
+        };
     }
 
     /**
@@ -546,7 +694,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, R> Invoker function1InvokerWithThrow(Functions.Function1Throws<T1, R> function) {
-        return args -> function.apply((T1) args[0]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0]);
+            }
+
+            @Override
+            public Object invoke1(Object arg1) throws Throwable {
+                return function.apply((T1) arg1);
+            }
+        };
     }
 
     /**
@@ -559,7 +717,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, R> Invoker function2Invoker(Functions.Function2<T1, T2, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1]);
+            }
+
+            @Override
+            public Object invoke2(Object arg1, Object arg2) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2);
+            }
+        };
     }
 
     /**
@@ -572,7 +740,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, R> Invoker function2InvokerWithThrow(Functions.Function2Throws<T1, T2, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1]);
+            }
+
+            @Override
+            public Object invoke2(Object arg1, Object arg2) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2);
+            }
+        };
     }
 
     /**
@@ -586,7 +764,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, R> Invoker function3Invoker(Functions.Function3<T1, T2, T3, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+            }
+
+            @Override
+            public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2, (T3) arg3);
+            }
+        };
     }
 
     /**
@@ -600,7 +788,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, R> Invoker function3InvokerWithThrow(Functions.Function3Throws<T1, T2, T3, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+            }
+
+            @Override
+            public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2, (T3) arg3);
+            }
+        };
     }
 
     /**
@@ -615,7 +813,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, T4, R> Invoker function4Invoker(Functions.Function4<T1, T2, T3, T4, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+            }
+
+            @Override
+            public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2, (T3) arg3, (T4) arg4);
+            }
+        };
     }
 
     /**
@@ -630,7 +838,17 @@ public interface InvokerFactory {
      * @return 调用器
      */
     static <T1, T2, T3, T4, R> Invoker function4InvokerWithThrow(Functions.Function4Throws<T1, T2, T3, T4, R> function) {
-        return args -> function.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+        return new Invoker() {
+            @Override
+            public Object invoke(Object[] args) throws Throwable {
+                return function.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+            }
+
+            @Override
+            public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+                return function.apply((T1) arg1, (T2) arg2, (T3) arg3, (T4) arg4);
+            }
+        };
     }
 
     /**
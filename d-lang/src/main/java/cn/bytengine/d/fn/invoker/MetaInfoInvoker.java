@@ -1,9 +1,15 @@
 package cn.bytengine.d.fn.invoker;
 
+import cn.bytengine.d.lang.ConversionService;
+import cn.bytengine.d.lang.TargetTypeConverter;
 import cn.bytengine.d.lang.reflect.MethodInfo;
 
 /**
  * 包含方法反射信息和委托调用器的调用器
+ * <p>
+ * 固定参数个数调用直接转发到委托调用器的对应快速路径，不组装参数数组；
+ * 每个方法参数创建一次{@link TargetTypeConverter}，供按参数类型转换参数时复用
+ * </p>
  *
  * @see MethodInfo
  * @author Ban Tenio
@@ -12,6 +18,7 @@ import cn.bytengine.d.lang.reflect.MethodInfo;
 public class MetaInfoInvoker implements Invoker {
     private final Invoker delegate;
     private final MethodInfo methodInfo;
+    private final TargetTypeConverter[] parameterConverters;
 
     /**
      * 根据方法调用器和方法反射信息包装Invoker，可在调用时提供方法信息
@@ -22,6 +29,11 @@ public class MetaInfoInvoker implements Invoker {
     public MetaInfoInvoker(Invoker delegate, MethodInfo methodInfo) {
         this.delegate = delegate;
         this.methodInfo = methodInfo;
+        Class<?>[] parameterTypes = methodInfo.getParameters();
+        this.parameterConverters = new TargetTypeConverter[parameterTypes.length];
+        for (int idx = 0; idx < parameterTypes.length; idx++) {
+            parameterConverters[idx] = TargetTypeConverter.of(parameterTypes[idx]);
+        }
     }
 
     /**
@@ -46,4 +58,69 @@ public class MetaInfoInvoker implements Invoker {
     public Object invoke(Object[] args) throws Throwable {
         return delegate.invoke(args);
     }
+
+    /**
+     * 按方法参数类型转换参数后调用，参数类型不一致时使用{@link ConversionService#getDefault()}转换，
+     * 参数个数比方法参数多1个时首个参数视为调用实例，不做转换
+     *
+     * @param args 调用参数列表
+     * @return 返回结果
+     * @throws Throwable 调用产生的异常
+     */
+    public Object invokeConverted(Object... args) throws Throwable {
+        int offset = args.length - parameterConverters.length;
+        if (offset < 0 || offset > 1) {
+            throw new ReflectionOperationException("The method " + methodInfo.getMethodName() + " requires "
+                    + parameterConverters.length + " arguments, but " + args.length + " given");
+        }
+        Object[] converted = args;
+        for (int idx = 0; idx < parameterConverters.length; idx++) {
+            Object arg = args[idx + offset];
+            Object convertedArg = parameterConverters[idx].convert(arg);
+            if (convertedArg != arg) {
+                if (converted == args) {
+                    converted = args.clone();
+                }
+                converted[idx + offset] = convertedArg;
+            }
+        }
+        return delegate.invoke(converted);
+    }
+
+    /**
+     * 按方法参数类型转换指定位置参数，参数已是参数类型时原样返回
+     *
+     * @param index 方法参数位置，不含调用实例
+     * @param arg   参数值
+     * @return 转换后的参数值，位置超出方法参数个数时原样返回
+     * @throws ClassCastException 不支持转换时抛出
+     */
+    public Object convertArgument(int index, Object arg) {
+        return index < parameterConverters.length ? parameterConverters[index].convert(arg) : arg;
+    }
+
+    @Override
+    public Object invoke0() throws Throwable {
+        return delegate.invoke0();
+    }
+
+    @Override
+    public Object invoke1(Object arg1) throws Throwable {
+        return delegate.invoke1(arg1);
+    }
+
+    @Override
+    public Object invoke2(Object arg1, Object arg2) throws Throwable {
+        return delegate.invoke2(arg1, arg2);
+    }
+
+    @Override
+    public Object invoke3(Object arg1, Object arg2, Object arg3) throws Throwable {
+        return delegate.invoke3(arg1, arg2, arg3);
+    }
+
+    @Override
+    public Object invoke4(Object arg1, Object arg2, Object arg3, Object arg4) throws Throwable {
+        return delegate.invoke4(arg1, arg2, arg3, arg4);
+    }
 }
@@ -1,7 +1,5 @@
 package cn.bytengine.d.fn.invoker;
 
-import cn.bytengine.d.lang.CharSequenceTools;
-
 import java.io.Serializable;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodType;
@@ -21,8 +19,13 @@ import java.util.concurrent.ConcurrentHashMap;
 public abstract class MethodHandles {
     private static final Map<Class<?>, Class<?>> PRIMITIVE_TYPE_OBJECT_TYPE_MAPPING = new HashMap<>();
     private static final Map<Class<?>, SerializedLambda> CLASS_LAMBDA_CACHE = new ConcurrentHashMap<>();
-    private static final Map<String, MethodType> METHOD_SIGN_METHOD_TYPE_MAPPING = new HashMap<>();
-    private static final Map<String, MethodHandle> METHOD_SIGN_METHOD_HANDLE_MAPPING = new HashMap<>();
+    private static final Class<?>[] NO_PARAMETERS = new Class[0];
+    private static final ClassValue<MethodHandleCache> METHOD_HANDLE_CACHE = new ClassValue<MethodHandleCache>() {
+        @Override
+        protected MethodHandleCache computeValue(Class<?> type) {
+            return new MethodHandleCache(type);
+        }
+    };
     private static final java.lang.invoke.MethodHandles.Lookup LOOKUP = java.lang.invoke.MethodHandles.lookup();
 
     static {
@@ -51,22 +54,38 @@ public abstract class MethodHandles {
         if (lambda != null) {
             return lambda;
         }
+        // 提取SerializedLambda，仅缓存未捕获参数的Lambda，避免缓存强引用捕获对象（如方法引用的接收者）
+        lambda = readSerializedLambda(fn);
+        if (lambda.getCapturedArgCount() == 0) {
+            CLASS_LAMBDA_CACHE.put(fn.getClass(), lambda);
+        }
+        return lambda;
+    }
+
+    /**
+     * 读取Functional实例的SerializedLambda信息，不使用缓存
+     * <p>
+     *     同一Lambda类的不同实例捕获参数不同，需要{@link SerializedLambda#getCapturedArg(int)}时使用本方法；
+     *     {@link #getSerializedLambda(Serializable)}仅按类缓存未捕获参数的Lambda
+     * </p>
+     *
+     * @param fn 标识Serializable的Functional对象
+     * @return SerializedLambda信息
+     */
+    public static SerializedLambda readSerializedLambda(Serializable fn) {
         try {
-            // 提取SerializedLambda并缓存
             Method method = fn.getClass().getDeclaredMethod("writeReplace");
             method.setAccessible(Boolean.TRUE);
-            lambda = (SerializedLambda) method.invoke(fn);
-            CLASS_LAMBDA_CACHE.put(fn.getClass(), lambda);
+            return (SerializedLambda) method.invoke(fn);
         } catch (Exception e) {
             throw new ReflectionOperationException(e);
         }
-        return lambda;
     }
 
     /**
      * 获取指定特征方法的MethodType实例
      * <p>
-     *     根据指定方法特征缓存MethodType实例
+     *     与{@link #getMethodHandler(Class, String, Class[])}共用缓存，方法不存在或不可访问时返回null
      * </p>
      *
      * @param type             方法所属类型
@@ -77,15 +96,15 @@ public abstract class MethodHandles {
     public static MethodType getMethodType(Class<?> type,
                                            String methodName,
                                            Class<?>[] parameterClasses) {
-        String methodSign = CharSequenceTools.format("{}.{}({})", type.getName(), methodName, Arrays.toString(parameterClasses));
-        return METHOD_SIGN_METHOD_TYPE_MAPPING.computeIfAbsent(methodSign, key -> {
-            MethodHandle mh = getMethodHandler(type, methodName, parameterClasses);
-            return mh == null ? null : mh.type();
-        });
+        MethodHandle mh = getMethodHandler(type, methodName, parameterClasses);
+        return mh == null ? null : mh.type();
     }
 
     /**
      * 根据指定特征方法的MethodHandle实例
+     * <p>
+     *     按类型分别缓存，命中缓存时不产生任何对象分配；方法不存在或不可访问的结果同样缓存，返回null
+     * </p>
      *
      * @param type             方法所属类型
      * @param methodName       方法名
@@ -95,15 +114,17 @@ public abstract class MethodHandles {
     public static MethodHandle getMethodHandler(Class<?> type,
                                                 String methodName,
                                                 Class<?>[] parameterClasses) {
-        String methodSign = CharSequenceTools.format("{}.{}({})", type.getName(), methodName, Arrays.toString(parameterClasses));
-        return METHOD_SIGN_METHOD_HANDLE_MAPPING.computeIfAbsent(methodSign, key -> {
-            try {
-                Method method = type.getDeclaredMethod(methodName, parameterClasses);
-                return LOOKUP.unreflect(method);
-            } catch (NoSuchMethodException | IllegalAccessException ex) {
-                return null;
-            }
-        });
+        return METHOD_HANDLE_CACHE.get(type).get(methodName, parameterClasses == null ? NO_PARAMETERS : parameterClasses);
+    }
+
+    /**
+     * 预加载指定类型全部声明方法的MethodHandle实例
+     *
+     * @param type 方法所属类型
+     * @return 可访问的方法数
+     */
+    public static int preload(Class<?> type) {
+        return METHOD_HANDLE_CACHE.get(type).preload();
     }
 
     /**
@@ -127,4 +148,83 @@ public abstract class MethodHandles {
         }
         return MethodType.methodType(returnType, targetParameterTypes);
     }
+
+    /**
+     * 单个类型的MethodHandle缓存，按方法名索引，同名方法按参数类型列表线性比较
+     * <p>
+     *     读操作无锁，写操作复制数组后替换，保证并发读取时数组内容不可变
+     * </p>
+     */
+    private static final class MethodHandleCache {
+        private static final CacheEntry[] EMPTY_ENTRIES = new CacheEntry[0];
+
+        private final Class<?> type;
+        private final Map<String, CacheEntry[]> entries = new ConcurrentHashMap<>();
+
+        MethodHandleCache(Class<?> type) {
+            this.type = type;
+        }
+
+        MethodHandle get(String methodName, Class<?>[] parameterClasses) {
+            CacheEntry[] candidates = entries.get(methodName);
+            if (candidates != null) {
+                for (CacheEntry candidate : candidates) {
+                    if (Arrays.equals(candidate.parameterClasses, parameterClasses)) {
+                        return candidate.methodHandle;
+                    }
+                }
+            }
+            MethodHandle methodHandle;
+            try {
+                methodHandle = unreflect(type.getDeclaredMethod(methodName, parameterClasses));
+            } catch (NoSuchMethodException | SecurityException ex) {
+                methodHandle = null;
+            }
+            return put(methodName, parameterClasses.clone(), methodHandle);
+        }
+
+        int preload() {
+            int count = 0;
+            for (Method method : type.getDeclaredMethods()) {
+                if (put(method.getName(), method.getParameterTypes(), unreflect(method)) != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private synchronized MethodHandle put(String methodName, Class<?>[] parameterClasses, MethodHandle methodHandle) {
+            CacheEntry[] candidates = entries.getOrDefault(methodName, EMPTY_ENTRIES);
+            for (CacheEntry candidate : candidates) {
+                if (Arrays.equals(candidate.parameterClasses, parameterClasses)) {
+                    return candidate.methodHandle;
+                }
+            }
+            CacheEntry[] newCandidates = Arrays.copyOf(candidates, candidates.length + 1);
+            newCandidates[candidates.length] = new CacheEntry(parameterClasses, methodHandle);
+            entries.put(methodName, newCandidates);
+            return methodHandle;
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                return LOOKUP.unreflect(method);
+            } catch (IllegalAccessException ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 缓存项，methodHandle为null表示方法不存在或不可访问
+     */
+    private static final class CacheEntry {
+        final Class<?>[] parameterClasses;
+        final MethodHandle methodHandle;
+
+        CacheEntry(Class<?>[] parameterClasses, MethodHandle methodHandle) {
+            this.parameterClasses = parameterClasses;
+            this.methodHandle = methodHandle;
+        }
+    }
 }
@@ -0,0 +1,221 @@
+package cn.bytengine.d.lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+/**
+ * 类型转换服务
+ * <p>
+ * 转换器按（源类型，目标类型）注册；转换时依次查找：目标类型可直接赋值、源类型精确注册、
+ * 源类型父类及接口注册（如Number注册的转换器适用于全部数字类型）、字符串转枚举，
+ * 查找结果（含无法转换）按类型对缓存，之后同一类型对转换不再查找。基本类型按包装类型处理。
+ * </p>
+ * <p>
+ * 注册转换器会使已缓存的查找结果失效，应在启动阶段完成注册。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class ConversionService {
+    private static final Converter<Object, Object> IDENTITY = source -> source;
+    private static final Converter<Object, Object> NO_CONVERTER = source -> {
+        throw new IllegalStateException();
+    };
+    private static final ConversionService DEFAULT = createDefault();
+
+    private final Map<Class<?>, Map<Class<?>, Converter<Object, Object>>> converters = new ConcurrentHashMap<>(32);
+    private volatile ClassValue<ConcurrentMap<Class<?>, Converter<Object, Object>>> resolvedCache = newResolvedCache();
+
+    /**
+     * 创建不含任何转换器的转换服务，仅支持可直接赋值和字符串转枚举
+     */
+    public ConversionService() {
+    }
+
+    /**
+     * 获取默认转换服务，包含数字、字符串、布尔、字符、Instant间的常用转换
+     *
+     * @return 默认转换服务
+     */
+    public static ConversionService getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 创建包含常用转换器的新转换服务
+     *
+     * @return 转换服务
+     */
+    public static ConversionService createDefault() {
+        ConversionService service = new ConversionService();
+        service.addConverter(Number.class, Byte.class, Number::byteValue);
+        service.addConverter(Number.class, Short.class, Number::shortValue);
+        service.addConverter(Number.class, Integer.class, Number::intValue);
+        service.addConverter(Number.class, Long.class, Number::longValue);
+        service.addConverter(Number.class, Float.class, Number::floatValue);
+        service.addConverter(Number.class, Double.class, Number::doubleValue);
+        service.addConverter(Number.class, BigDecimal.class, NumberTools::toBigDecimal);
+        service.addConverter(Number.class, BigInteger.class, number -> NumberTools.toBigDecimal(number).toBigInteger());
+
+        service.addConverter(String.class, Byte.class, Byte::valueOf);
+        service.addConverter(String.class, Short.class, Short::valueOf);
+        service.addConverter(String.class, Integer.class, NumberTools::parseInt);
+        service.addConverter(String.class, Long.class, NumberTools::parseLong);
+        service.addConverter(String.class, Float.class, NumberTools::parseFloat);
+        service.addConverter(String.class, Double.class, NumberTools::parseDouble);
+        service.addConverter(String.class, Number.class, NumberTools::parseNumber);
+        service.addConverter(String.class, BigDecimal.class, NumberTools::toBigDecimal);
+        service.addConverter(String.class, BigInteger.class, NumberTools::toBigInteger);
+        service.addConverter(String.class, Boolean.class, BooleanTools::toBooleanObject);
+        service.addConverter(String.class, Character.class, str -> str.isEmpty() ? null : str.charAt(0));
+        service.addConverter(String.class, Instant.class, str -> Instant.from(ISO_INSTANT.parse(str)));
+
+        service.addConverter(Object.class, String.class, Object::toString);
+        service.addConverter(Instant.class, String.class, ISO_INSTANT::format);
+        service.addConverter(byte[].class, String.class, String::new);
+        service.addConverter(Enum.class, String.class, Enum::name);
+        return service;
+    }
+
+    /**
+     * 注册转换器，同一类型对重复注册时覆盖
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @param converter  转换器
+     * @param <S>        源类型
+     * @param <T>        目标类型
+     * @return 当前转换服务
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> ConversionService addConverter(Class<S> sourceType, Class<T> targetType, Converter<? super S, ? extends T> converter) {
+        AssertTools.notNull(sourceType, "sourceType must not be null");
+        AssertTools.notNull(targetType, "targetType must not be null");
+        AssertTools.notNull(converter, "converter must not be null");
+        converters.computeIfAbsent(BasicType.wrap(sourceType), type -> new ConcurrentHashMap<>(8))
+                .put(BasicType.wrap(targetType), (Converter<Object, Object>) converter);
+        resolvedCache = newResolvedCache();
+        return this;
+    }
+
+    /**
+     * 是否支持源类型到目标类型转换
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 是否支持
+     */
+    public boolean canConvert(Class<?> sourceType, Class<?> targetType) {
+        return getConverter(sourceType, targetType) != null;
+    }
+
+    /**
+     * 获取源类型到目标类型的转换器，调用方可缓存后直接使用
+     *
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 转换器，可直接赋值时返回恒等转换器，不支持时返回null
+     */
+    public Converter<Object, Object> getConverter(Class<?> sourceType, Class<?> targetType) {
+        Class<?> wrappedTarget = BasicType.wrap(targetType);
+        ConcurrentMap<Class<?>, Converter<Object, Object>> resolved = resolvedCache.get(BasicType.wrap(sourceType));
+        Converter<Object, Object> converter = resolved.get(wrappedTarget);
+        if (converter == null) {
+            converter = resolved.computeIfAbsent(wrappedTarget, type -> {
+                Converter<Object, Object> found = resolve(BasicType.wrap(sourceType), type);
+                return found == null ? NO_CONVERTER : found;
+            });
+        }
+        return converter == NO_CONVERTER ? null : converter;
+    }
+
+    /**
+     * 是否为恒等转换器，即源值可直接赋值给目标类型
+     *
+     * @param converter 转换器
+     * @return 是否为恒等转换器
+     */
+    public static boolean isIdentity(Converter<?, ?> converter) {
+        return converter == IDENTITY;
+    }
+
+    /**
+     * 转换为目标类型
+     *
+     * @param value      源值
+     * @param targetType 目标类型
+     * @param <T>        目标类型
+     * @return 转换结果，源值为null时返回null，源值已是目标类型时原样返回
+     * @throws ClassCastException 不支持转换时抛出
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(Object value, Class<T> targetType) {
+        if (value == null) {
+            return null;
+        }
+        if (targetType.isInstance(value)) {
+            return (T) value;
+        }
+        Converter<Object, Object> converter = getConverter(value.getClass(), targetType);
+        if (converter == null) {
+            throw new ClassCastException("Can not convert " + value.getClass().getName() + " to " + targetType.getName());
+        }
+        return (T) converter.convert(value);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Converter<Object, Object> resolve(Class<?> sourceType, Class<?> targetType) {
+        if (targetType.isAssignableFrom(sourceType)) {
+            return IDENTITY;
+        }
+        for (Class<?> current = sourceType; current != null && current != Object.class; current = current.getSuperclass()) {
+            Converter<Object, Object> converter = findRegistered(current, targetType);
+            if (converter != null) {
+                return converter;
+            }
+            converter = findInterfaceRegistered(current, targetType);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        if (sourceType == String.class && targetType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) targetType;
+            return source -> ((String) source).isEmpty() ? null : Enum.valueOf(enumType, (String) source);
+        }
+        return findRegistered(Object.class, targetType);
+    }
+
+    private Converter<Object, Object> findInterfaceRegistered(Class<?> type, Class<?> targetType) {
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            Converter<Object, Object> converter = findRegistered(interfaceType, targetType);
+            if (converter == null) {
+                converter = findInterfaceRegistered(interfaceType, targetType);
+            }
+            if (converter != null) {
+                return converter;
+            }
+        }
+        return null;
+    }
+
+    private Converter<Object, Object> findRegistered(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, Converter<Object, Object>> targetConverters = converters.get(sourceType);
+        return targetConverters == null ? null : targetConverters.get(targetType);
+    }
+
+    private static ClassValue<ConcurrentMap<Class<?>, Converter<Object, Object>>> newResolvedCache() {
+        return new ClassValue<ConcurrentMap<Class<?>, Converter<Object, Object>>>() {
+            @Override
+            protected ConcurrentMap<Class<?>, Converter<Object, Object>> computeValue(Class<?> sourceType) {
+                return new ConcurrentHashMap<>(8);
+            }
+        };
+    }
+}
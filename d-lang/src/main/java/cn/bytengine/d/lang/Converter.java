@@ -0,0 +1,21 @@
+package cn.bytengine.d.lang;
+
+/**
+ * 类型转换器
+ *
+ * @param <S> 源类型
+ * @param <T> 目标类型
+ * @author Ban Tenio
+ * @version 1.0
+ * @see ConversionService
+ */
+@FunctionalInterface
+public interface Converter<S, T> {
+    /**
+     * 转换非null源值
+     *
+     * @param source 源值，不为null
+     * @return 转换结果
+     */
+    T convert(S source);
+}
@@ -0,0 +1,89 @@
+package cn.bytengine.d.lang;
+
+/**
+ * 固定目标类型的转换器
+ * <p>
+ * 目标类型在创建时确定，值已是目标类型时直接返回，不查找转换器；
+ * 否则从{@link ConversionService}获取转换器，并缓存最近一次源类型对应的转换器，同一源类型重复转换时不再查找。
+ * 适合按方法参数或属性创建一次后复用。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class TargetTypeConverter {
+    private final ConversionService conversionService;
+    private final Class<?> targetType;
+    private final Class<?> wrappedTargetType;
+    private volatile Resolved lastResolved;
+
+    /**
+     * 构造器
+     *
+     * @param conversionService 类型转换服务
+     * @param targetType        目标类型
+     */
+    public TargetTypeConverter(ConversionService conversionService, Class<?> targetType) {
+        AssertTools.notNull(conversionService, "ConversionService must not be null");
+        AssertTools.notNull(targetType, "targetType must not be null");
+        this.conversionService = conversionService;
+        this.targetType = targetType;
+        this.wrappedTargetType = BasicType.wrap(targetType);
+    }
+
+    /**
+     * 使用{@link ConversionService#getDefault()}创建固定目标类型的转换器
+     *
+     * @param targetType 目标类型
+     * @return 转换器
+     */
+    public static TargetTypeConverter of(Class<?> targetType) {
+        return new TargetTypeConverter(ConversionService.getDefault(), targetType);
+    }
+
+    /**
+     * 获取目标类型
+     *
+     * @return 目标类型
+     */
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * 转换为目标类型
+     *
+     * @param value 源值
+     * @return 转换结果，源值为null或已是目标类型时原样返回
+     * @throws ClassCastException 不支持转换时抛出
+     */
+    public Object convert(Object value) {
+        if (value == null || wrappedTargetType.isInstance(value)) {
+            return value;
+        }
+        Class<?> sourceType = value.getClass();
+        Resolved resolved = lastResolved;
+        if (resolved == null || resolved.sourceType != sourceType) {
+            Converter<Object, Object> converter = conversionService.getConverter(sourceType, targetType);
+            if (converter == null) {
+                throw new ClassCastException("Can not convert " + sourceType.getName() + " to " + targetType.getName());
+            }
+            resolved = new Resolved(sourceType, converter);
+            lastResolved = resolved;
+        }
+        return resolved.converter.convert(value);
+    }
+
+    /**
+     * 源类型及其转换器
+     */
+    private static final class Resolved {
+        private final Class<?> sourceType;
+        private final Converter<Object, Object> converter;
+
+        Resolved(Class<?> sourceType, Converter<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.converter = converter;
+        }
+    }
+}
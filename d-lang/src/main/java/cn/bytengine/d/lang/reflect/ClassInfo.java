@@ -9,6 +9,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -20,8 +21,9 @@ import java.util.stream.Collectors;
 public class ClassInfo {
     private Class<?> type;
 
-    private final Map<String, PropertyInfo> propertyInfoMap = new HashMap<>(16);
-    private final Map<Method, MethodInfo> methodInfos = new HashMap<>(16);
+    private Map<String, PropertyInfo> propertyInfoMap = new HashMap<>(16);
+    private Map<Method, MethodInfo> methodInfos = new HashMap<>(16);
+    private volatile Supplier<ClassInfo> materializer;
 
     /**
      * 获取类信息类型
@@ -94,7 +96,7 @@ public class ClassInfo {
      * @return 添加的属性信息
      */
     public PropertyInfo addProperty(String key, PropertyInfo value) {
-        return propertyInfoMap.put(key, value);
+        return properties().put(key, value);
     }
 
     /**
@@ -104,7 +106,7 @@ public class ClassInfo {
      * @return 移除的属性信息
      */
     public PropertyInfo removeProperty(String key) {
-        return propertyInfoMap.remove(key);
+        return properties().remove(key);
     }
 
     /**
@@ -113,7 +115,7 @@ public class ClassInfo {
      * @return 属性名集合
      */
     public Set<String> propertyNameSet() {
-        return propertyInfoMap.keySet();
+        return properties().keySet();
     }
 
     /**
@@ -122,7 +124,7 @@ public class ClassInfo {
      * @return 属性信息集合
      */
     public Collection<PropertyInfo> propertyInfos() {
-        return propertyInfoMap.values();
+        return properties().values();
     }
 
     /**
@@ -132,7 +134,7 @@ public class ClassInfo {
      * @return 是否存在属性
      */
     public boolean containsProperty(String o) {
-        return propertyInfoMap.containsKey(o);
+        return properties().containsKey(o);
     }
 
     /**
@@ -142,7 +144,7 @@ public class ClassInfo {
      * @return 是否存在属性
      */
     public boolean containsProperty(PropertyInfo o) {
-        return propertyInfoMap.containsValue(o);
+        return properties().containsValue(o);
     }
 
     /**
@@ -152,7 +154,7 @@ public class ClassInfo {
      * @return 属性信息
      */
     public PropertyInfo getProperty(String propertyName) {
-        return propertyInfoMap.get(propertyName);
+        return properties().get(propertyName);
     }
 
     /**
@@ -161,7 +163,7 @@ public class ClassInfo {
      * @param consumer 属性信息访问器
      */
     public void eachPropertyInfos(BiConsumer<? super String, ? super PropertyInfo> consumer) {
-        propertyInfoMap.forEach(consumer);
+        properties().forEach(consumer);
     }
 
     /**
@@ -181,7 +183,7 @@ public class ClassInfo {
      * @return 方法信息
      */
     public MethodInfo addMethodInfo(MethodInfo methodInfo) {
-        methodInfos.put(methodInfo.getMethod(), methodInfo);
+        methods().put(methodInfo.getMethod(), methodInfo);
         return methodInfo;
     }
 
@@ -192,7 +194,7 @@ public class ClassInfo {
      * @return 被移除方法信息
      */
     public MethodInfo removeMethodInfo(Method o) {
-        return methodInfos.remove(o);
+        return methods().remove(o);
     }
 
     /**
@@ -212,7 +214,7 @@ public class ClassInfo {
      * @return 是否包含方法信息
      */
     public boolean containsMethod(Method o) {
-        return methodInfos.containsKey(o);
+        return methods().containsKey(o);
     }
 
     /**
@@ -222,7 +224,7 @@ public class ClassInfo {
      * @return 是否包含方法信息
      */
     public boolean containsMethod(MethodInfo o) {
-        return methodInfos.containsValue(o);
+        return methods().containsValue(o);
     }
 
     /**
@@ -232,7 +234,7 @@ public class ClassInfo {
      * @return 方法信息
      */
     public MethodInfo getMethodInfo(Method o) {
-        return methodInfos.get(o);
+        return methods().get(o);
     }
 
     /**
@@ -251,7 +253,7 @@ public class ClassInfo {
      * @param consumer 方法信息访问器
      */
     public void eachMethod(BiConsumer<? super Method, ? super MethodInfo> consumer) {
-        methodInfos.forEach(consumer);
+        methods().forEach(consumer);
     }
 
     /**
@@ -262,7 +264,7 @@ public class ClassInfo {
      * @return 方法信息
      */
     public MethodInfo findFirstMethod(String methodName, boolean throwWhenNotFound) {
-        Optional<MethodInfo> result = methodInfos.values().stream()
+        Optional<MethodInfo> result = methods().values().stream()
                 .filter(mi -> CharSequenceTools.equals(mi.getMethodName(), methodName))
                 .findFirst();
         if (throwWhenNotFound) {
@@ -278,11 +280,44 @@ public class ClassInfo {
      * @return 方法信息集合
      */
     public List<MethodInfo> findAllMethods(String methodName) {
-        return methodInfos.values().stream()
+        return methods().values().stream()
                 .filter(mi -> CharSequenceTools.equals(mi.getMethodName(), methodName))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 类信息是否已经生成属性和方法信息
+     *
+     * @return 是否已生成
+     */
+    public boolean isMaterialized() {
+        return materializer == null;
+    }
+
+    private Map<String, PropertyInfo> properties() {
+        materialize();
+        return propertyInfoMap;
+    }
+
+    private Map<Method, MethodInfo> methods() {
+        materialize();
+        return methodInfos;
+    }
+
+    private void materialize() {
+        if (materializer != null) {
+            synchronized (this) {
+                Supplier<ClassInfo> current = materializer;
+                if (current != null) {
+                    ClassInfo materialized = current.get();
+                    propertyInfoMap = materialized.properties();
+                    methodInfos = materialized.methods();
+                    materializer = null;
+                }
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
@@ -296,14 +331,44 @@ public class ClassInfo {
     }
 
     /**
-     * 根据类信息实例创建类信息对象
+     * 根据类信息实例创建类信息对象，属性和方法信息在首次访问时扫描类成员生成
      *
      * @param clazz 类信息实例
      * @return 类信息
      */
     public static ClassInfo of(Class<?> clazz) {
+        return lazy(clazz, () -> scan(clazz));
+    }
+
+    /**
+     * 创建延迟生成属性和方法信息的类信息对象，首次访问属性或方法信息时调用生成函数，
+     * 并发访问时生成函数只调用一次
+     *
+     * @param clazz        类信息实例
+     * @param materializer 生成函数，返回包含属性和方法信息的类信息
+     * @return 类信息
+     */
+    public static ClassInfo lazy(Class<?> clazz, Supplier<ClassInfo> materializer) {
+        ClassInfo info = empty(clazz);
+        info.materializer = materializer;
+        return info;
+    }
+
+    /**
+     * 创建不包含方法和属性信息的类信息对象，用于按预生成的方法和属性表填充
+     *
+     * @param clazz 类信息实例
+     * @return 类信息
+     * @see ClassInfoIndex
+     */
+    public static ClassInfo empty(Class<?> clazz) {
         ClassInfo info = new ClassInfo();
         info.type = clazz;
+        return info;
+    }
+
+    private static ClassInfo scan(Class<?> clazz) {
+        ClassInfo info = empty(clazz);
         buildMethodInfos(info, clazz);
         buildPropertyInfos(info, clazz);
         return info;
@@ -347,11 +412,20 @@ public class ClassInfo {
     }
 
     private static PropertyInfo buildPropertyInfo(ClassInfo classInfo, Class<?> clazz, PropertyDescriptor p) {
-        MethodInfo reader = p.getReadMethod() == null ? null : classInfo.getMethodInfo(p.getReadMethod());
-        MethodInfo writer = p.getWriteMethod() == null ? null : classInfo.getMethodInfo(p.getWriteMethod());
+        MethodInfo reader = accessorMethodInfo(classInfo, clazz, p.getReadMethod());
+        MethodInfo writer = accessorMethodInfo(classInfo, clazz, p.getWriteMethod());
         return PropertyInfo.of(clazz, p.getName(), p.getPropertyType(), reader, writer);
     }
 
+    private static MethodInfo accessorMethodInfo(ClassInfo classInfo, Class<?> clazz, Method method) {
+        if (method == null) {
+            return null;
+        }
+        // 继承的公开getter、setter不在声明方法表中，单独创建方法信息
+        MethodInfo methodInfo = classInfo.getMethodInfo(method);
+        return methodInfo == null ? MethodInfo.of(clazz, method) : methodInfo;
+    }
+
     private static Collection<? extends PropertyDescriptor> determineBasicProperties(Class<?> beanClass) {
 
         Map<String, PropertyDescriptor> pdMap = new TreeMap<>();
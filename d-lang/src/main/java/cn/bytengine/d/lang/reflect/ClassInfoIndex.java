@@ -0,0 +1,61 @@
+package cn.bytengine.d.lang.reflect;
+
+/**
+ * 预生成类信息索引，由d-assist-apt为{@link cn.bytengine.d.assist.annotations.ClassAccess}类型生成，
+ * 注册类信息时直接按预生成的方法和属性表创建，不再扫描类成员
+ * <p>
+ * 索引类与类型位于同一包，类名为类型在包内的名称（嵌套类以'_'连接）加ClassInfoIndex后缀，
+ * 通过类型自身的类加载器按类名加载，不持有类型引用。
+ * </p>
+ *
+ * @author Ban Tenio
+ * @version 1.0
+ * @see ClassInfos#register(Class[])
+ */
+public interface ClassInfoIndex {
+    /**
+     * 索引类名后缀
+     */
+    String CLASS_NAME_SUFFIX = "ClassInfoIndex";
+
+    /**
+     * 查找指定类型的预生成类信息索引
+     *
+     * @param type 类型
+     * @return 类信息索引，不存在时返回null
+     */
+    static ClassInfoIndex find(Class<?> type) {
+        if (type.isArray() || type.isPrimitive() || type.isHidden()) {
+            return null;
+        }
+        String packageName = type.getPackageName();
+        String simpleBinaryName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        String indexClassName = (packageName.isEmpty() ? "" : packageName + ".")
+                + simpleBinaryName.replace('$', '_') + CLASS_NAME_SUFFIX;
+        try {
+            Class<?> indexClass = Class.forName(indexClassName, false, type.getClassLoader());
+            if (!ClassInfoIndex.class.isAssignableFrom(indexClass)) {
+                return null;
+            }
+            ClassInfoIndex index = (ClassInfoIndex) indexClass.getDeclaredConstructor().newInstance();
+            return index.getType() == type ? index : null;
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 获取索引对应类型
+     *
+     * @return 类型
+     */
+    Class<?> getType();
+
+    /**
+     * 按预生成的方法和属性表创建类信息
+     *
+     * @return 类信息
+     * @throws ReflectiveOperationException 类型与生成时不一致，方法不存在
+     */
+    ClassInfo create() throws ReflectiveOperationException;
+}
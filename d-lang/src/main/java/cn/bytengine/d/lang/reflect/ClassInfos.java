@@ -1,8 +1,5 @@
 package cn.bytengine.d.lang.reflect;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * 类信息缓存
  *
@@ -10,12 +7,11 @@ import java.util.Map;
  * @version 1.0
  */
 public abstract class ClassInfos {
+    private static final ClassRegistry<ClassInfo> REGISTRY = new ClassRegistry<>(ClassInfos::create);
+
     private ClassInfos() {
     }
 
-    private static final Map<Class<?>, ClassInfo> classInfoMap = new HashMap<>(128);
-    private static final Map<String, ClassInfo> classNameInfoMap = new HashMap<>(128);
-
     /**
      * 获取指定类型的类信息
      *
@@ -23,7 +19,7 @@ public abstract class ClassInfos {
      * @return 类信息
      */
     public static ClassInfo get(Class<?> key) {
-        return classInfoMap.get(key);
+        return REGISTRY.get(key);
     }
 
     /**
@@ -33,7 +29,7 @@ public abstract class ClassInfos {
      * @return 类信息
      */
     public static ClassInfo get(String className) {
-        return classNameInfoMap.get(className);
+        return REGISTRY.get(className);
     }
 
     /**
@@ -43,7 +39,7 @@ public abstract class ClassInfos {
      * @return 是否包含类信息
      */
     public static boolean containsClass(Class<?> key) {
-        return classInfoMap.containsKey(key);
+        return REGISTRY.contains(key);
     }
 
     /**
@@ -53,30 +49,55 @@ public abstract class ClassInfos {
      * @return 是否包含类信息
      */
     public static boolean containsClassInfo(String value) {
-        return classNameInfoMap.containsValue(value);
+        return REGISTRY.contains(value);
     }
 
     /**
      * 注册指定类信息实例集合，并返回对用类信息集合
+     * <p>
+     *     并发注册同一类型时只创建一个类信息，类信息的属性和方法信息在首次访问时生成
+     * </p>
      *
      * @param classes 类信息实例
      * @return 类信息集合
      */
     public static ClassInfo[] register(Class<?>... classes) {
         ClassInfo[] result = new ClassInfo[classes.length];
-        Class<?> clazz;
         for (int idx = 0; idx < classes.length; idx++) {
-            clazz = classes[idx];
-            if (clazz == null) {
-                result[idx] = null;
-            } else if (containsClass(clazz)) {
-                result[idx] = get(clazz);
-            } else {
-                result[idx] = ClassInfo.of(clazz);
-                classInfoMap.put(clazz, result[idx]);
-                classNameInfoMap.put(clazz.getCanonicalName(), result[idx]);
-            }
+            result[idx] = classes[idx] == null ? null : REGISTRY.register(classes[idx]);
         }
         return result;
     }
+
+    /**
+     * 移除指定类加载器（含其子加载器）加载类型的类名索引，应用卸载时调用
+     *
+     * @param classLoader 类加载器
+     * @return 移除的索引数
+     * @see ClassRegistry#removeClassLoader(ClassLoader)
+     */
+    public static int removeClassLoader(ClassLoader classLoader) {
+        return REGISTRY.removeClassLoader(classLoader);
+    }
+
+    /**
+     * 创建类信息，存在预生成类信息索引时按索引生成，否则扫描类成员
+     *
+     * @param clazz 类信息实例
+     * @return 类信息
+     */
+    private static ClassInfo create(Class<?> clazz) {
+        ClassInfoIndex index = ClassInfoIndex.find(clazz);
+        if (index == null) {
+            return ClassInfo.of(clazz);
+        }
+        return ClassInfo.lazy(clazz, () -> {
+            try {
+                return index.create();
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                // 类型与生成索引时不一致，退化为扫描类成员
+                return ClassInfo.of(clazz);
+            }
+        });
+    }
 }
@@ -0,0 +1,229 @@
+package cn.bytengine.d.lang.reflect;
+
+import cn.bytengine.d.lang.AssertTools;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 按类型注册的并发注册表
+ * <p>
+ * 注册值保存在{@link ClassValue}中，随类型一同回收，同一类型并发注册时只创建一次注册值；
+ * 类名索引只弱引用类型，不会阻止类加载器卸载，同名类型重新注册（如应用热部署）时替换旧索引。
+ * 类名索引同时收录规范类名和二进制类名（如内部类的Outer$Inner），便于按SerializedLambda等来源的类名查找。
+ * </p>
+ *
+ * @param <V> 注册值类型
+ * @author Ban Tenio
+ * @version 1.0
+ */
+public final class ClassRegistry<V> {
+    private final Function<Class<?>, ? extends V> factory;
+    private final ClassValue<Slot<V>> slots = new ClassValue<Slot<V>>() {
+        @Override
+        protected Slot<V> computeValue(Class<?> type) {
+            return new Slot<>();
+        }
+    };
+    private final ConcurrentMap<String, ClassReference> nameIndex = new ConcurrentHashMap<>(128);
+    private final ReferenceQueue<Class<?>> staleReferences = new ReferenceQueue<>();
+
+    /**
+     * 构造器
+     *
+     * @param factory 注册值创建函数
+     */
+    public ClassRegistry(Function<Class<?>, ? extends V> factory) {
+        this.factory = AssertTools.notNull(factory, "factory must not be null");
+    }
+
+    /**
+     * 注册指定类型，已注册时返回已有注册值
+     *
+     * @param type 类型
+     * @return 注册值
+     */
+    public V register(Class<?> type) {
+        Slot<V> slot = slots.get(type);
+        V value = slot.value;
+        if (value != null) {
+            return value;
+        }
+        synchronized (slot) {
+            value = slot.value;
+            if (value == null) {
+                value = factory.apply(type);
+                slot.value = value;
+                purgeStaleReferences();
+                String name = nameOf(type);
+                nameIndex.put(name, new ClassReference(name, type, staleReferences));
+                if (!name.equals(type.getName())) {
+                    nameIndex.put(type.getName(), new ClassReference(type.getName(), type, staleReferences));
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 获取指定类型注册值
+     *
+     * @param type 类型
+     * @return 注册值，未注册时返回null
+     */
+    public V get(Class<?> type) {
+        return slots.get(type).value;
+    }
+
+    /**
+     * 获取指定类名的注册值
+     *
+     * @param className 类名
+     * @return 注册值，未注册或类型已卸载时返回null
+     */
+    public V get(String className) {
+        Class<?> type = findClass(className);
+        return type == null ? null : get(type);
+    }
+
+    /**
+     * 是否注册指定类型
+     *
+     * @param type 类型
+     * @return 是否已注册
+     */
+    public boolean contains(Class<?> type) {
+        return get(type) != null;
+    }
+
+    /**
+     * 是否注册指定类名的类型
+     *
+     * @param className 类名
+     * @return 是否已注册
+     */
+    public boolean contains(String className) {
+        return get(className) != null;
+    }
+
+    /**
+     * 根据类名查找已注册类型
+     *
+     * @param className 规范类名或二进制类名
+     * @return 类型，未注册或类型已卸载时返回null
+     */
+    public Class<?> findClass(String className) {
+        ClassReference reference = nameIndex.get(className);
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * 遍历已注册类型和注册值
+     *
+     * @param action 访问函数
+     */
+    public void forEach(BiConsumer<? super Class<?>, ? super V> action) {
+        for (ClassReference reference : nameIndex.values()) {
+            Class<?> type = reference.get();
+            if (type != null && reference.name.equals(nameOf(type))) {
+                V value = get(type);
+                if (value != null) {
+                    action.accept(type, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取已注册注册值快照
+     *
+     * @return 注册值集合
+     */
+    public List<V> values() {
+        List<V> values = new ArrayList<>(nameIndex.size());
+        forEach((type, value) -> values.add(value));
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * 获取已注册类型和注册值快照
+     *
+     * @return 类型与注册值集合
+     */
+    public Set<Map.Entry<Class<?>, V>> entries() {
+        Set<Map.Entry<Class<?>, V>> entries = new LinkedHashSet<>();
+        forEach((type, value) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(type, value)));
+        return Collections.unmodifiableSet(entries);
+    }
+
+    /**
+     * 移除指定类加载器（含其子加载器）加载类型的类名索引，用于应用卸载时尽早释放索引，
+     * 注册值随类型回收
+     *
+     * @param classLoader 类加载器
+     * @return 移除的索引数
+     */
+    public int removeClassLoader(ClassLoader classLoader) {
+        int removed = 0;
+        for (Map.Entry<String, ClassReference> entry : nameIndex.entrySet()) {
+            Class<?> type = entry.getValue().get();
+            if ((type == null || isLoadedBy(type, classLoader)) && nameIndex.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static boolean isLoadedBy(Class<?> type, ClassLoader classLoader) {
+        for (ClassLoader current = type.getClassLoader(); current != null; current = current.getParent()) {
+            if (current == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void purgeStaleReferences() {
+        ClassReference reference;
+        while ((reference = (ClassReference) staleReferences.poll()) != null) {
+            nameIndex.remove(reference.name, reference);
+        }
+    }
+
+    private static String nameOf(Class<?> type) {
+        String canonicalName = type.getCanonicalName();
+        return canonicalName == null ? type.getName() : canonicalName;
+    }
+
+    /**
+     * 注册值槽位
+     *
+     * @param <V> 注册值类型
+     */
+    private static final class Slot<V> {
+        volatile V value;
+    }
+
+    /**
+     * 类型弱引用，记录类名以便类型回收后清理索引
+     */
+    private static final class ClassReference extends WeakReference<Class<?>> {
+        private final String name;
+
+        ClassReference(String name, Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.name = name;
+        }
+    }
+}
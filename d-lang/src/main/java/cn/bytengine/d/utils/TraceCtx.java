@@ -2,6 +2,7 @@ package cn.bytengine.d.utils;
 
 import cn.bytengine.d.ctx.AbstractCtxProxy;
 import cn.bytengine.d.ctx.Ctx;
+import cn.bytengine.d.ctx.CtxKey;
 import cn.bytengine.d.ctx.Ctxs;
 import cn.bytengine.d.lang.AssertTools;
 
@@ -21,6 +22,14 @@ public class TraceCtx extends AbstractCtxProxy {
      * TraceConfig上下文Key
      */
     public static final String TRACE_CTX_CONFIG_KEY_PREFIX = TRACE_CTX_KEY_PREFIX + "config";
+    /**
+     * TraceId上下文类型化Key
+     */
+    public static final CtxKey<String> TRACE_ID_KEY = CtxKey.of(TRACE_CTX_TRACE_ID_KEY_PREFIX, String.class);
+    /**
+     * TraceConfig上下文类型化Key
+     */
+    public static final CtxKey<TraceConfig> TRACE_CONFIG_KEY = CtxKey.of(TRACE_CTX_CONFIG_KEY_PREFIX, TraceConfig.class);
 
     static {
         Ctxs.registerProxy(TraceCtx.class, TraceCtx::new);
@@ -42,7 +51,7 @@ public class TraceCtx extends AbstractCtxProxy {
      * @return Trace配置策略
      */
     public TraceConfig getTraceConfig() {
-        return this.getByTypeWithDefault(TRACE_CTX_CONFIG_KEY_PREFIX, TraceConfig.class, null);
+        return get(TRACE_CONFIG_KEY);
     }
 
     /**
@@ -51,7 +60,7 @@ public class TraceCtx extends AbstractCtxProxy {
      * @return TraceId
      */
     public String traceId() {
-        return getString(TRACE_CTX_TRACE_ID_KEY_PREFIX);
+        return get(TRACE_ID_KEY);
     }
 
     /**
@@ -61,7 +70,7 @@ public class TraceCtx extends AbstractCtxProxy {
      * @return 当前上下文代理
      */
     public TraceCtx traceId(String traceId) {
-        set(TRACE_CTX_TRACE_ID_KEY_PREFIX, traceId);
+        set(TRACE_ID_KEY, traceId);
         return this;
     }
 
@@ -95,6 +104,6 @@ public class TraceCtx extends AbstractCtxProxy {
      */
     public static void setTraceConfig(TraceConfig traceConfig, Ctx ctx) {
         AssertTools.notNull(traceConfig, "the TraceConfig instance is null");
-        ctx.set(TRACE_CTX_CONFIG_KEY_PREFIX, traceConfig);
+        ctx.set(TRACE_CONFIG_KEY, traceConfig);
     }
 }
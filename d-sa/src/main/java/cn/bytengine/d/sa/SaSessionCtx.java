@@ -2,6 +2,7 @@ package cn.bytengine.d.sa;
 
 import cn.bytengine.d.ctx.AbstractCtxProxy;
 import cn.bytengine.d.ctx.Ctx;
+import cn.bytengine.d.ctx.CtxKey;
 import cn.bytengine.d.ctx.Ctxs;
 import cn.bytengine.d.lang.AssertTools;
 import cn.bytengine.d.lang.CollectionTools;
@@ -19,10 +20,12 @@ import java.util.Set;
  * @version 1.0
  */
 public class SaSessionCtx extends AbstractCtxProxy {
-    private static final String SA_SESSION_CTX_USER_ID_KEY = "cn.bytengine.d.sa.userId";
-    private static final String SA_SESSION_CTX_ROLES_KEY = "cn.bytengine.d.sa.roles";
-    private static final String SA_SESSION_CTX_PERMISSIONS_KEY = "cn.bytengine.d.sa.permissions";
-    private static final String SA_SESSION_CTX_SA_CONFIG_KEY = "cn.bytengine.d.sa.saConfig";
+    private static final CtxKey<Object> SA_SESSION_CTX_USER_ID_KEY = CtxKey.of("cn.bytengine.d.sa.userId", Object.class);
+    @SuppressWarnings("unchecked")
+    private static final CtxKey<Set<String>> SA_SESSION_CTX_ROLES_KEY = (CtxKey<Set<String>>) (CtxKey<?>) CtxKey.of("cn.bytengine.d.sa.roles", Set.class);
+    @SuppressWarnings("unchecked")
+    private static final CtxKey<Set<String>> SA_SESSION_CTX_PERMISSIONS_KEY = (CtxKey<Set<String>>) (CtxKey<?>) CtxKey.of("cn.bytengine.d.sa.permissions", Set.class);
+    private static final CtxKey<SaConfig> SA_SESSION_CTX_SA_CONFIG_KEY = CtxKey.of("cn.bytengine.d.sa.saConfig", SaConfig.class);
 
     static {
         Ctxs.registerProxy(SaSessionCtx.class, SaSessionCtx::new);
@@ -57,7 +60,7 @@ public class SaSessionCtx extends AbstractCtxProxy {
      * @return SA配置策略
      */
     public SaConfig getSaConfig() {
-        return this.getByTypeWithDefault(SA_SESSION_CTX_SA_CONFIG_KEY, SaConfig.class, null);
+        return get(SA_SESSION_CTX_SA_CONFIG_KEY);
     }
 
     /**
@@ -125,7 +128,7 @@ public class SaSessionCtx extends AbstractCtxProxy {
      * @return 用户唯一标识
      */
     public <T> T getUserId() {
-        return (T) this.getByTypeWithDefault(SA_SESSION_CTX_USER_ID_KEY, Object.class, null);
+        return (T) get(SA_SESSION_CTX_USER_ID_KEY);
     }
 
     /**
@@ -134,7 +137,7 @@ public class SaSessionCtx extends AbstractCtxProxy {
      * @return 用户角色集合
      */
     protected Set<String> getRoles() {
-        return (Set<String>) this.getByType(SA_SESSION_CTX_ROLES_KEY, Set.class, CollectionTools::newHashSet);
+        return get(SA_SESSION_CTX_ROLES_KEY, CollectionTools::newHashSet);
     }
 
     /**
@@ -207,7 +210,7 @@ public class SaSessionCtx extends AbstractCtxProxy {
      * @return 用户角色集合
      */
     protected Set<String> getPermissions() {
-        return (Set<String>) this.getByType(SA_SESSION_CTX_PERMISSIONS_KEY, Set.class, CollectionTools::newHashSet);
+        return get(SA_SESSION_CTX_PERMISSIONS_KEY, CollectionTools::newHashSet);
     }
 
     /**